@@ -1,108 +1,160 @@
-import java.util.ArrayList;
-import java.util.HashMap;
-
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The AI class is a bot player. Which card it plays and which colour it picks after a wild card are decided by its
+ * AIStrategy, DefaultAIStrategy unless another one is given.
+ */
 public class AI extends Player{
-    private static int id = 1;
-    private static final int DRAW = -1;
+    private static final AtomicInteger id = new AtomicInteger(1);    // shared by every game running in the JVM
+    private static final AIStrategy DEFAULT_STRATEGY = new DefaultAIStrategy();
+    // strategies that are saved with a bot, any other strategy is saved as the first one
+    public static final List<String> SAVED_STRATEGIES = List.of("DefaultAIStrategy", "GreedyAIStrategy",
+            "MonteCarloAIStrategy");
+    private final AIStrategy strategy;
+
     public AI (){
-        super("Bot " + id);
-        id++;
+        this(DEFAULT_STRATEGY);
     }
 
     /**
-     * Returns the index of a playable card that the AI can play, if it matches the colour, rank , or if it is wild
-     * If the AI does not have a playable card, the AI will return a -1 to signify the AI must draw a card
-     *
-     * @param currentColour current colour of the game
-     * @param currentRank current rank of the game
-     * @return the index of a playable card that the AI has.
+     * Constructs a bot that follows the given strategy.
+     * @param strategy the strategy deciding the bot's moves
      */
-    public int playAICard(Card.Colour currentColour, Card.Rank currentRank){
-        HashMap<Card, Integer> playAbleCards = new HashMap<>();
-
-        // Get the card and the index of the card that are playable, by matching colour, rank, and if it is wild
-        for (int i = 0; i < this.hand.size(); i++){
-            if (this.hand.getCards().get(i).getColour() == currentColour || this.hand.getCards().get(i).getRank() == currentRank || this.hand.getCards().get(i).getColour() == Card.Colour.WILD || this.hand.getCards().get(i).getColour() == Card.Colour.WILD_DARK){
-                playAbleCards.put(this.hand.getCards().get(i), i);
-            }
-        }
+    public AI (AIStrategy strategy){
+        this("Bot " + id.getAndIncrement(), strategy);
+    }
 
-        // If playable cards empty, AI must draw card
-        if (playAbleCards.isEmpty()){
-            return DRAW;
-        }
+    /**
+     * Constructs a bot with the given name that follows DefaultAIStrategy. Unlike AI(), no bot number is taken, so it
+     * is used to restore saved bots.
+     * @param name the name of the bot
+     */
+    public AI (String name){
+        this(name, DEFAULT_STRATEGY);
+    }
 
-        // Check entries if they match the current colour or current rank, play that card
-        // Otherwise play the first entry which will be a wild card
-        for (Card cardEntry : playAbleCards.keySet()){
-            if (cardEntry.getColour() == currentColour || cardEntry.getRank() == currentRank){
-                return playAbleCards.get(cardEntry);
-            }
-        }
+    /**
+     * Constructs a bot with the given name that follows the given strategy.
+     * @param name the name of the bot
+     * @param strategy the strategy deciding the bot's moves
+     */
+    public AI (String name, AIStrategy strategy){
+        super(name);
+        this.strategy = strategy;
+    }
 
-        return 0;
+    /**
+     * Copy constructor, the copy keeps the name and the strategy of the original bot.
+     * @param other the AI to copy
+     */
+    protected AI(AI other){
+        super(other);
+        this.strategy = other.strategy;
     }
 
     /**
-     * Returns the most occurring colour other than wild.
-     *
-     * @return Card.Colour of the most occurring colour
+     * Returns an independent copy of the AI, keeping its name, score, hand and strategy.
+     * @return the copy of the AI
      */
-    public Card.Colour wildPickColour(boolean isLight){
-        HashMap<Card.Colour, Integer> countColourMap = new HashMap<>();
-
-        for (Card card: this.hand.getCards()){
-            if(countColourMap.containsKey(card.getColour())){
-                countColourMap.put(card.getColour(), countColourMap.get(card.getColour()) + 1);
-            } else {
-                countColourMap.put(card.getColour(), 1);
-            }
-        }
+    @Override
+    public AI copy(){
+        return new AI(this);
+    }
 
-        int max = -1;
-        Card.Colour mostColour = null;
-        for(Card.Colour colourEntry: countColourMap.keySet()){
-            int count = countColourMap.get(colourEntry);
+    /**
+     * Returns the strategy deciding the bot's moves.
+     * @return the strategy
+     */
+    public AIStrategy getStrategy(){
+        return strategy;
+    }
 
-            if (max < count && colourEntry != Card.Colour.WILD){
-                max = count;
-                mostColour = colourEntry;
-            }
-        }
-        // Pick default colour if the bot only has wild cards
-        if(mostColour == null){
-            if(isLight){
-                mostColour = Card.Colour.RED;
-            } else{
-                mostColour = Card.Colour.TEAL;
-            }
+    /**
+     * Returns the name the bot's strategy is saved as, one of SAVED_STRATEGIES.
+     * @return the class name of the strategy, or of DefaultAIStrategy if the strategy cannot be saved
+     */
+    public String getStrategyName(){
+        String name = strategy.getClass().getSimpleName();
+        return SAVED_STRATEGIES.contains(name) ? name : SAVED_STRATEGIES.get(0);
+    }
+
+    /**
+     * Creates a strategy from the name it was saved as (see getStrategyName). The strategy gets its default settings,
+     * e.g. a MonteCarloAIStrategy searches for its default time budget whatever it was saved with.
+     * @param name The saved name of the strategy
+     * @return the strategy, DefaultAIStrategy if the name is not one of SAVED_STRATEGIES
+     */
+    public static AIStrategy createStrategy(String name){
+        switch (name) {
+            case "GreedyAIStrategy":
+                return new GreedyAIStrategy();
+            case "MonteCarloAIStrategy":
+                return new MonteCarloAIStrategy();
+            default:
+                return DEFAULT_STRATEGY;
         }
+    }
 
+    /**
+     * Returns the index of a playable card that the AI can play, as chosen by its strategy.
+     * If the AI does not have a playable card, the AI will return a -1 to signify the AI must draw a card
+     *
+     * @param currentColour current colour of the game
+     * @param currentRank current rank of the game
+     * @param side the side of the cards that is face up (Card.LIGHT or Card.DARK)
+     * @return the index of a playable card that the AI has.
+     */
+    public int playAICard(Card.Colour currentColour, Card.Rank currentRank, boolean side){
+        return strategy.chooseCard(this.hand, currentColour, currentRank, side);
+    }
 
+    /**
+     * Returns the index of a playable card that the AI can play in a game where it is the current player, as chosen
+     * by its strategy, which may look at the whole game.
+     *
+     * @param game the game the AI is playing
+     * @return the index of a playable card that the AI has, -1 if the AI must draw a card
+     */
+    public int playAICard(UnoFlipModel game){
+        return strategy.chooseCard(game);
+    }
 
-        return mostColour;
+    /**
+     * Returns the colour the AI picks after playing a wild card, as chosen by its strategy.
+     *
+     * @return Card.Colour of the picked colour
+     */
+    public Card.Colour wildPickColour(boolean isLight){
+        return strategy.chooseColour(this.hand, isLight);
     }
 
 
     /**
-     * Returns the String representation of the AI class XML format.
+     * Writes the AI class XML format to a Writer, starting on a new line. toXML returns the same as a String.
+     * @param out The Writer to write to.
      * @param numTabs The number of tabs the main opening tag should start with.
-     * @return the String AI class XML format
+     * @param side The side that is face up (Card.LIGHT or Card.DARK).
+     * @throws IOException if the Writer fails.
      */
-    public String toXML(int numTabs){
-        // shorterTab is for the parent opening and closing tag, while the longer tab is for the nested tags.
-        String baseTabLength = "";
-
-        for(int i = 0; i < numTabs; i++){
-            baseTabLength += "\t";
-        }
-
-        return  "\n" + baseTabLength
-                + "<AI>\n"  +
-                this.hand.toXML(numTabs + 1) +"\n" + baseTabLength + "\t" +
-                "<name>" + this.name + "</name>\n" + baseTabLength + "\t" +
-                "<playerScore>" + this.playerScore + "</playerScore>\n" + baseTabLength +
-                "</AI>";
+    @Override
+    public void writeXML(Writer out, int numTabs, boolean side) throws IOException {
+        // baseTabLength is for the parent opening and closing tag, while the nested one is for the nested tags.
+        String baseTabLength = XMLFormat.tabs(numTabs);
+        String nestedTabLength = XMLFormat.tabs(numTabs + 1);
+
+        out.write('\n');
+        out.write(baseTabLength);
+        out.write("<AI>\n");
+        XMLFormat.writeElement(out, nestedTabLength, "strategy", getStrategyName());
+        this.hand.writeXML(out, numTabs + 1, side);
+        out.write('\n');
+        XMLFormat.writeElement(out, nestedTabLength, "name", this.name);
+        XMLFormat.writeElement(out, nestedTabLength, "playerScore", this.playerScore);
+        out.write(baseTabLength);
+        out.write("</AI>");
     }
 
 
@@ -0,0 +1,46 @@
+/**
+ * AIStrategy is the policy an AI player follows: which card to play and which colour to pick after playing a wild
+ * card. Every AI delegates its decisions to its strategy, so policies can be swapped per bot (see
+ * UnoFlipModel.createAIPlayer(AIStrategy)) and compared in bulk with UnoFlipSimulation and UnoFlipTournament.
+ * Strategies that look further than the bot's hand (ex. MonteCarloAIStrategy) override chooseCard(UnoFlipModel), which
+ * is given the whole game.
+ * A strategy may be shared by many bots and games running on different threads, so it must not keep any state
+ * that changes between decisions.
+ *
+ * Date: 2026-10-17
+ */
+public interface AIStrategy {
+    /**
+     * The index returned by chooseCard when the bot must draw a card.
+     */
+    int DRAW = -1;
+
+    /**
+     * Chooses the card to play.
+     * @param hand The bot's hand, which must not be changed
+     * @param currentColour The current colour of the game
+     * @param currentRank The current rank of the game
+     * @param side The side of the cards that is face up (Card.LIGHT or Card.DARK)
+     * @return the index in the hand of a playable card, or DRAW if the bot has none
+     */
+    int chooseCard(Hand hand, Card.Colour currentColour, Card.Rank currentRank, boolean side);
+
+    /**
+     * Chooses the card the current player of a game plays. By default only the player's hand and the card to match
+     * are looked at.
+     * @param game The game, whose current player is the bot; it must not be changed
+     * @return the index in the hand of a playable card, or DRAW if the bot has none
+     */
+    default int chooseCard(UnoFlipModel game) {
+        return chooseCard(game.getCurrentPlayer().getHand(), game.getCurrentColour(), game.getCurrentRank(),
+                game.getCardSide());
+    }
+
+    /**
+     * Chooses the colour of the game after the bot plays a wild card.
+     * @param hand The bot's hand, which must not be changed
+     * @param side The side of the cards that is face up (Card.LIGHT or Card.DARK)
+     * @return the colour, never a wild colour
+     */
+    Card.Colour chooseColour(Hand hand, boolean side);
+}
@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * AtomicFileWriter replaces a file in one step: the new contents are written to a temporary file in the same
+ * directory, flushed to disk and then renamed over the old file, and the directory is flushed so the rename itself
+ * survives a crash. A crash while saving leaves either the old file or the new one, never a partially written file.
+ *
+ * This only holds where the file system supports atomic renames. Where it does not, the temporary file is moved over
+ * the old file with a plain replace, which a crash can interrupt, and a warning is logged.
+ *
+ * Date: 2026-10-17
+ */
+public final class AtomicFileWriter {
+    private static final System.Logger LOGGER = System.getLogger(AtomicFileWriter.class.getName());
+
+    /**
+     * Writes the contents of a file to an open channel.
+     */
+    @FunctionalInterface
+    public interface Contents {
+        /**
+         * Writes the contents. The channel must not be closed.
+         * @param channel The channel of the temporary file
+         * @throws IOException if the contents cannot be written
+         */
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Replaces a file with new contents, creating it if it does not exist.
+     * @param target The file to replace
+     * @param contents Writes the new contents of the file
+     * @throws IOException if the file cannot be written, the old file is then left unchanged
+     */
+    public static void write(Path target, Contents contents) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                contents.writeTo(channel);
+                channel.force(true);    // the contents must be on disk before the rename is
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Atomic rename not supported in " + directory
+                        + ", replacing " + target.getFileName() + " non-atomically");
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(temp);     // only left behind if writing failed
+        }
+    }
+
+    /**
+     * Flushes a directory to disk, so that the renames done in it are durable.
+     * @param directory The directory to flush
+     * @throws IOException if the directory cannot be flushed
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;     // some platforms (ex. Windows) cannot open a directory, their renames are flushed by the OS
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+}
@@ -1,5 +1,13 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * The Card class represents a card used in the Uno Flip game. Each card has a color and a rank.
+ * The Card class represents a card used in the Uno Flip game. Each card has a color and a rank on its light side and
+ * on its dark side. Which side is face up belongs to the game the card is in (see UnoFlipModel.getCardSide), so the
+ * side-dependent methods take the side to read.
+ * Cards cannot be changed once created. Card.valueOf hands out one shared Card object per kind of card, so decks and
+ * hands of every game hold references to the same few dozen objects.
  * It provides methods for checking wild, getting the rank and colour of the card, and generating a string
  * representation of the hand.
  *
@@ -18,11 +26,29 @@ public class Card {
     public static final int RANK_DRAW_ONE = 9;  // ordinal of the draw one enum in Rank enums
     public static final boolean LIGHT = true;
     public static final boolean DARK = false;
-    private Rank lightRank;
-    private Colour lightColour;
-    private Rank darkRank;
-    private Colour darkColour;
-    private static boolean side;
+
+    // a card packs into an int code: light rank, light colour, dark rank and dark colour ordinals, lowest bits first
+    private static final int RANK_BITS = 5;     // enough for the 19 ranks
+    private static final int COLOUR_BITS = 4;   // enough for the 11 colours
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+    private static final int COLOUR_MASK = (1 << COLOUR_BITS) - 1;
+    private static final int LIGHT_COLOUR_SHIFT = RANK_BITS;
+    private static final int DARK_RANK_SHIFT = RANK_BITS + COLOUR_BITS;
+    private static final int DARK_COLOUR_SHIFT = 2 * RANK_BITS + COLOUR_BITS;
+    private static final int SIDE_BITS = RANK_BITS + COLOUR_BITS;      // bits of one side's rank and colour
+    public static final int CODE_BITS = 2 * SIDE_BITS;  // number of bits used by a card code
+    private static final int WILD_MASK = COLOUR_MASK << LIGHT_COLOUR_SHIFT | COLOUR_MASK << DARK_COLOUR_SHIFT;
+    private static final int WILD_CODE =
+            Colour.WILD.ordinal() << LIGHT_COLOUR_SHIFT | Colour.WILD_DARK.ordinal() << DARK_COLOUR_SHIFT;
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final Colour[] COLOURS = Colour.values();
+
+    private final Rank lightRank;
+    private final Colour lightColour;
+    private final Rank darkRank;
+    private final Colour darkColour;
+    private final int code;     // the card packed into an int, see getCode
 
 
     /**
@@ -32,14 +58,55 @@ public class Card {
      * @param lightColour The card's light side colour
      * @param darkRank The card's dark side rank
      * @param darkColour The card's dark side colour
-     * @throws IllegalArgumentException if an invalid card is attempted to be created
+     * @throws NullPointerException if a rank or colour is null
      */
     public Card(Rank lightRank, Colour lightColour, Rank darkRank, Colour darkColour){
         this.lightRank = lightRank;
         this.lightColour = lightColour;
         this.darkRank = darkRank;
         this.darkColour = darkColour;
-        side = LIGHT;
+        this.code = encode(lightRank, lightColour, darkRank, darkColour);
+    }
+
+    /**
+     * Returns the canonical Card object with the specified ranks and colours. Cards cannot be changed, so the same
+     * object is returned every time and can be shared by any number of decks, hands and games; the game creates its
+     * cards through this method rather than the constructor.
+     *
+     * @param lightRank The card's light side rank
+     * @param lightColour The card's light side colour
+     * @param darkRank The card's dark side rank
+     * @param darkColour The card's dark side colour
+     * @return the card
+     * @throws NullPointerException if a rank or colour is null
+     */
+    public static Card valueOf(Rank lightRank, Colour lightColour, Rank darkRank, Colour darkColour){
+        int code = encode(lightRank, lightColour, darkRank, darkColour);
+        Card card = Catalog.DECK_CARDS[lightRank.ordinal() * COLOURS.length + lightColour.ordinal()];
+        if (card != null && card.code == code) {
+            return card;
+        }
+        return Catalog.OTHER_CARDS.computeIfAbsent(code,
+                c -> new Card(lightRank, lightColour, darkRank, darkColour));
+    }
+
+    /**
+     * The canonical cards, shared by every deck, hand and game in the JVM. The cards of a full deck are taken once
+     * from Deck.STARTING_CARDS and indexed by their light side rank and colour, like Deck counts them, so the table
+     * holds a couple of hundred references. Cards no deck holds (ex. made up by tests) are kept in a map by code.
+     * A nested class so that the table is built on first use, after Deck has made its cards.
+     */
+    private static final class Catalog {
+        private static final Card[] DECK_CARDS = deckCards();
+        private static final ConcurrentHashMap<Integer, Card> OTHER_CARDS = new ConcurrentHashMap<>();
+
+        private static Card[] deckCards() {
+            Card[] cards = new Card[RANKS.length * COLOURS.length];
+            for (Card card : Deck.STARTING_CARDS) {
+                cards[card.lightRank.ordinal() * COLOURS.length + card.lightColour.ordinal()] = card;
+            }
+            return cards;
+        }
     }
 
     /**
@@ -48,14 +115,15 @@ public class Card {
      * @return true if the card is a wild card, false otherwise
      */
     public boolean isWild(){
-        return (this.lightColour == Colour.WILD && this.darkColour == Colour.WILD_DARK);
+        return isWild(code);
     }
 
     /**
-     * Returns the colour of the card.
+     * Returns the colour of the card on the given side.
+     * @param side The side that is face up (LIGHT or DARK)
      * @return the colour of the Card.
      */
-    public Colour getColour() {
+    public Colour getColour(boolean side) {
         if (side == LIGHT) {
             return lightColour;
         } else {
@@ -64,10 +132,11 @@ public class Card {
     }
 
     /**
-     * Returns the rank of the card.
+     * Returns the rank of the card on the given side.
+     * @param side The side that is face up (LIGHT or DARK)
      * @return the rank of the Card.
      */
-    public Rank getRank(){
+    public Rank getRank(boolean side){
         if (side == LIGHT) {
             return lightRank;
         } else {
@@ -108,46 +177,142 @@ public class Card {
     }
 
     /**
-     * Returns the current side (light or dark) of all Card objects (defined by constants LIGHT and DARK)
-     * @return LIGHT (true) if light side, DARK (false) if dark side
+     * Returns the card packed into an int code holding the ordinals of both sides' rank and colour.
+     * Only the lowest CODE_BITS bits are used.
+     * @return The card's code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Packs the ranks and colours of a card into its code (see getCode).
+     */
+    private static int encode(Rank lightRank, Colour lightColour, Rank darkRank, Colour darkColour) {
+        return lightRank.ordinal() | lightColour.ordinal() << LIGHT_COLOUR_SHIFT |
+                darkRank.ordinal() << DARK_RANK_SHIFT | darkColour.ordinal() << DARK_COLOUR_SHIFT;
+    }
+
+    /**
+     * Returns the rank ordinal of a card code on the given side.
+     * @param code The card's code
+     * @param side The side that is face up (LIGHT or DARK)
+     * @return the ordinal of the card's Rank
+     */
+    public static int rankOf(int code, boolean side) {
+        return (side == LIGHT ? code : code >>> SIDE_BITS) & RANK_MASK;
+    }
+
+    /**
+     * Returns the colour ordinal of a card code on the given side.
+     * @param code The card's code
+     * @param side The side that is face up (LIGHT or DARK)
+     * @return the ordinal of the card's Colour
+     */
+    public static int colourOf(int code, boolean side) {
+        return (side == LIGHT ? code : code >>> SIDE_BITS) >>> RANK_BITS & COLOUR_MASK;
+    }
+
+    /**
+     * Checks if a card code is a wild card (see isWild).
+     * @param code The card's code
+     * @return true if the card is a wild card, false otherwise
+     */
+    public static boolean isWild(int code) {
+        return (code & WILD_MASK) == WILD_CODE;
+    }
+
+    /**
+     * Checks if a card code has the given rank or colour on the given side.
+     * @param code The card's code
+     * @param side The side that is face up (LIGHT or DARK)
+     * @param rank The rank ordinal to match, -1 to match no rank
+     * @param colour The colour ordinal to match, -1 to match no colour
+     * @return true if the rank or the colour matches, false otherwise
+     */
+    public static boolean matches(int code, boolean side, int rank, int colour) {
+        int face = side == LIGHT ? code : code >>> SIDE_BITS;
+        return (face & RANK_MASK) == rank || (face >>> RANK_BITS & COLOUR_MASK) == colour;
+    }
+
+    /**
+     * Returns the ordinal of a rank or colour to compare with a card code, -1 for null (which matches no card).
+     * @param value The rank or colour
+     * @return the ordinal of the value, or -1
      */
-    public static boolean getSide() {
-        return side;
+    public static int ordinalOf(Enum<?> value) {
+        return value == null ? -1 : value.ordinal();
     }
 
     /**
-     * Flips the side of all cards.
+     * Returns the canonical card of a code made by getCode.
+     * @param code The card's code
+     * @return The card
+     * @throws IllegalArgumentException if the code does not hold valid ranks and colours
      */
-    public static void flipSide() {
-        side = !side;
+    public static Card fromCode(int code) {
+        if (code >>> CODE_BITS != 0) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        int lightRank = code & RANK_MASK;
+        int lightColour = code >>> LIGHT_COLOUR_SHIFT & COLOUR_MASK;
+        if (lightRank < RANKS.length && lightColour < COLOURS.length) {
+            Card card = Catalog.DECK_CARDS[lightRank * COLOURS.length + lightColour];
+            if (card != null && card.code == code) {
+                return card;
+            }
+        }
+        try {
+            return valueOf(RANKS[code & RANK_MASK],
+                    COLOURS[code >>> LIGHT_COLOUR_SHIFT & COLOUR_MASK],
+                    RANKS[code >>> DARK_RANK_SHIFT & RANK_MASK],
+                    COLOURS[code >>> DARK_COLOUR_SHIFT & COLOUR_MASK]);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
     }
 
     /**
-     * Returns a string representation of the card, displaying its color followed by its rank.
+     * Returns a string representation of the card's light side, displaying its color followed by its rank.
      *
      * @return the string representation of the card
      */
     @Override
     public String toString() {
+        return toString(LIGHT);
+    }
+
+    /**
+     * Returns a string representation of the card on the given side, displaying its color followed by its rank.
+     * The string is also the name of the card's image.
+     *
+     * @param side The side that is face up (LIGHT or DARK)
+     * @return the string representation of the card
+     */
+    public String toString(boolean side) {
+        Rank rank = this.getRank(side);
+        Colour colour = this.getColour(side);
+
         // some cards' formats cannot be derived purely from their rank and colour enums
-        if (this.getRank() == Rank.WILD_DRAW_2)
-            return (this.getColour() + "_draw_2").toLowerCase();
-        if (this.getRank() == Rank.DRAW_ONE)
-            return (this.getColour() + "_draw_1").toLowerCase();
-        if (this.getRank() == Rank.DRAW_FIVE)
-            return (this.getColour() + "_draw_5").toLowerCase();
-        if (this.getRank() == Rank.WILD && (this.getColour() == Colour.WILD || this.getColour() == Colour.WILD_DARK))
-            return (this.getColour() + "_card").toLowerCase();
-        if (this.getRank() == Rank.WILD_DRAW_COLOUR)
+        if (rank == Rank.WILD_DRAW_2)
+            return (colour + "_draw_2").toLowerCase();
+        if (rank == Rank.DRAW_ONE)
+            return (colour + "_draw_1").toLowerCase();
+        if (rank == Rank.DRAW_FIVE)
+            return (colour + "_draw_5").toLowerCase();
+        if (rank == Rank.WILD && (colour == Colour.WILD || colour == Colour.WILD_DARK))
+            return (colour + "_card").toLowerCase();
+        if (rank == Rank.WILD_DRAW_COLOUR)
             return ("wild_draw_colour");
-        if(this.getRank().ordinal() < 9) // if number card
-            return (this.getColour() + "_"+ (this.getRank().ordinal()+1)).toLowerCase();    // +1 because ordinal 0-based
+        if(rank.ordinal() < 9) // if number card
+            return (colour + "_"+ (rank.ordinal()+1)).toLowerCase();    // +1 because ordinal 0-based
 
-        return (this.getColour() + "_" + this.getRank()).toLowerCase();   // if a Colour non-number card
+        return (colour + "_" + rank).toLowerCase();   // if a Colour non-number card
     }
 
     /**
-     * Checks if this card is equal to another object.
+     * Checks if this card is equal to another object. Two cards are equal if both of their sides match, so the result
+     * does not depend on which side is face up.
      *
      * @param obj the object to compare with this card
      * @return true if the cards are equal, false otherwise
@@ -161,49 +326,49 @@ public class Card {
         if (obj.getClass() != this.getClass())
             return false;
         Card other = (Card) obj;
-        return this.getRank() == other.getRank() && this.getColour() == other.getColour();
+        return this.lightRank == other.lightRank && this.lightColour == other.lightColour &&
+                this.darkRank == other.darkRank && this.darkColour == other.darkColour;
+    }
+
+    /**
+     * Returns a hash code consistent with equals.
+     *
+     * @return the hash code of the card
+     */
+    @Override
+    public int hashCode() {
+        return code;
     }
 
     /**
      * Returns an XML representation of the Card.
      * @param numTabs The number of tabs the main opening tag should start with.
+     * @param side The side that is face up in the card's game (LIGHT or DARK).
      * @return XML representation of the card.
      */
-    public String toXML(int numTabs) {
-        String baseTabLength = "";    // any tabs within the return String will append to this base tab length
-
-        // add tabs to the base tab length
-        for (int i = 0; i < numTabs; i++) {
-            baseTabLength += "\t";
-        }
-
-        return baseTabLength +
-                "<Card>\n" + baseTabLength + "\t" +
-                "<lightRank>" + this.getLightRank() + "</lightRank>\n" + baseTabLength + "\t" +
-                "<lightColour>" + this.getLightColour() + "</lightColour>\n" + baseTabLength + "\t" +
-                "<darkRank>" + this.getDarkRank() + "</darkRank>\n" + baseTabLength + "\t" +
-                "<darkColour>" + this.getDarkColour() + "</darkColour>\n" + baseTabLength + "\t" +
-                "<side>" + Card.getSide() + "</side>\n" + baseTabLength +
-                "</Card>";
+    public String toXML(int numTabs, boolean side) {
+        return XMLFormat.toString(out -> writeXML(out, numTabs, side));
     }
 
-    public void setLightRank(Rank lightRank) {
-        this.lightRank = lightRank;
-    }
-
-    public void setLightColour(Colour lightColour) {
-        this.lightColour = lightColour;
-    }
-
-    public void setDarkRank(Rank darkRank) {
-        this.darkRank = darkRank;
-    }
-
-    public void setDarkColour(Colour darkColour) {
-        this.darkColour = darkColour;
-    }
+    /**
+     * Writes the XML representation of the Card (see toXML) to a Writer.
+     * @param out The Writer to write to.
+     * @param numTabs The number of tabs the main opening tag should start with.
+     * @param side The side that is face up in the card's game (LIGHT or DARK).
+     * @throws IOException if the Writer fails.
+     */
+    public void writeXML(Writer out, int numTabs, boolean side) throws IOException {
+        String baseTabLength = XMLFormat.tabs(numTabs);
+        String nestedTabLength = XMLFormat.tabs(numTabs + 1);
 
-    public static void setSide(boolean side) {
-        Card.side = side;
+        out.write(baseTabLength);
+        out.write("<Card>\n");
+        XMLFormat.writeElement(out, nestedTabLength, "lightRank", this.getLightRank());
+        XMLFormat.writeElement(out, nestedTabLength, "lightColour", this.getLightColour());
+        XMLFormat.writeElement(out, nestedTabLength, "darkRank", this.getDarkRank());
+        XMLFormat.writeElement(out, nestedTabLength, "darkColour", this.getDarkColour());
+        XMLFormat.writeElement(out, nestedTabLength, "side", side);
+        out.write(baseTabLength);
+        out.write("</Card>");
     }
 }
@@ -3,56 +3,126 @@
  * @author Hubert Dang
  */
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The Deck class represents the deck of cards used in the game of Uno Flip.
  * The class provides methods for drawing cards, discarding cards, and resting the deck when needed.
- * The class draws cards form the deck stack, which can be used by the player during the game.
- * The class discards cards into the discard stack, handling various rules for card limits.
+ * The class draws cards form the deck pile, which can be used by the player during the game.
+ * The class discards cards into the discard pile, handling various rules for card limits.
+ * Both piles are plain arrays with a size, the top of a pile is its last card, so drawing and discarding neither
+ * allocate nor lock.
+ * A deck can be given its own RandomGenerator, a deck made from a seeded generator is always shuffled the same way,
+ * so a game can be replayed from its seed.
  * Class keeps track of the frequency of the specific cards in the deck, including the main deck, discard pile and cards in play.
  *
  * @author Hubert Dang
  * Date: 2023-10-18
  */
 public class Deck {
-    private Stack<Card> deck;   // tracking deck to draw from
-    private Stack<Card> discard;    // tracking discard pile
-    private ArrayList<Card> inPlay; // keep track of cards not in deck to draw from or discard
+    // the piles hold the shared Card objects rather than int card codes: a reference takes no more room than a code,
+    // and every card drawn is handed out as a Card, so a pile of codes would cost a lookup on every draw
+    private Card[] deck;    // tracking deck to draw from, the top is deck[deckSize - 1]
+    private int deckSize;
+    private Card[] discard; // tracking discard pile, the top is discard[discardSize - 1]
+    private int discardSize;
+    private final RandomGenerator random;   // shuffles the deck, null to use the calling thread's ThreadLocalRandom
     private static final int MAX_SIZE = 112;
     private static final int NUM_CARDS_PER_COLOUR = 2;
     private static final int NUM_CARDS_PER_WILD = 4;    // there are 4 of each wild card
+    // every card of a full deck, unshuffled, never changed: the canonical Card objects (see Card.valueOf)
+    static final Card[] STARTING_CARDS = startingCards();
+
+    // cards are counted per identity, the index of a card is given by identity(card)
+    private static final int NUM_IDENTITIES = Card.Rank.values().length * Card.Colour.values().length;
+    private int[] frequency;    // copies of each card in the deck to draw from, the discard pile and in play
+    private int[] inPlay;       // copies of each card not in the deck to draw from or discard (held by players)
+    private Card[] cards;       // a Card object of each identity that has been counted, to list the cards in play
 
     /**
-     * Create a shuffled deck with all the Uno Flip! cards.
+     * Create an empty deck that is shuffled with the calling thread's ThreadLocalRandom.
      */
     public Deck() {
-        deck = new Stack<Card>();
-        discard = new Stack<Card>();
-        inPlay = new ArrayList<Card>();
+        this((RandomGenerator) null);
+    }
+
+    /**
+     * Create an empty deck that is shuffled with the given generator. The generator must not be used by several
+     * threads at once.
+     * @param random The generator to shuffle with, null to use the calling thread's ThreadLocalRandom
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
+        deck = new Card[MAX_SIZE];
+        discard = new Card[MAX_SIZE];
+        frequency = new int[NUM_IDENTITIES];
+        inPlay = new int[NUM_IDENTITIES];
+        cards = new Card[NUM_IDENTITIES];
+    }
+
+    /**
+     * Create a copy of another deck. The copy holds the same Card objects in the same order, but drawing from or
+     * discarding to the copy does not affect the original. The copy shuffles with the same generator as the original.
+     * @param other The deck to copy
+     */
+    public Deck(Deck other) {
+        this(other, other.random);
+    }
+
+    /**
+     * Create a copy of another deck that shuffles with the given generator.
+     * @param other The deck to copy
+     * @param random The generator to shuffle with, null to use the calling thread's ThreadLocalRandom
+     */
+    public Deck(Deck other, RandomGenerator random) {
+        this.random = random;
+        deck = other.deck.clone();
+        deckSize = other.deckSize;
+        discard = other.discard.clone();
+        discardSize = other.discardSize;
+        frequency = other.frequency.clone();
+        inPlay = other.inPlay.clone();
+        cards = other.cards.clone();
     }
 
     /**
      * Inits the deck to its starting state (full).
      */
     public void initStartingDeck() {
+        setDeck(Arrays.asList(STARTING_CARDS));   // the cards are shared, no Card is created
+        shuffle(deck, deckSize);
+    }
+
+    /**
+     * Lists every card of a full deck, making one Card object of each kind. Card.valueOf hands out these objects, so
+     * they are made with the constructor.
+     * @return the cards of a full deck
+     */
+    private static Card[] startingCards() {
+        List<Card> cards = new ArrayList<Card>(MAX_SIZE);
+
         // add all the non-wild cards of each light/dark pairing to deck
-        addNonWildCardsToDeck(Card.Colour.BLUE, Card.Colour.PINK);
-        addNonWildCardsToDeck(Card.Colour.GREEN, Card.Colour.TEAL);
-        addNonWildCardsToDeck(Card.Colour.RED, Card.Colour.ORANGE);
-        addNonWildCardsToDeck(Card.Colour.YELLOW, Card.Colour.PURPLE);
+        addNonWildCardsToDeck(cards, Card.Colour.BLUE, Card.Colour.PINK);
+        addNonWildCardsToDeck(cards, Card.Colour.GREEN, Card.Colour.TEAL);
+        addNonWildCardsToDeck(cards, Card.Colour.RED, Card.Colour.ORANGE);
+        addNonWildCardsToDeck(cards, Card.Colour.YELLOW, Card.Colour.PURPLE);
 
         // add 4 wild cards to deck
-        for (int i = 0; i < 4; i++) {
-            deck.push(new Card(Card.Rank.WILD, Card.Colour.WILD, Card.Rank.WILD, Card.Colour.WILD_DARK));
+        Card wild = new Card(Card.Rank.WILD, Card.Colour.WILD, Card.Rank.WILD, Card.Colour.WILD_DARK);
+        for (int i = 0; i < NUM_CARDS_PER_WILD; i++) {
+            cards.add(wild);
         }
 
         // add 4 wild draw-two/wild-draw-colour cards to deck
-        for (int i = 0; i < 4; i++) {
-            deck.push(new Card(Card.Rank.WILD_DRAW_2, Card.Colour.WILD, Card.Rank.WILD_DRAW_COLOUR, Card.Colour.WILD_DARK));
+        Card wildDraw = new Card(Card.Rank.WILD_DRAW_2, Card.Colour.WILD, Card.Rank.WILD_DRAW_COLOUR, Card.Colour.WILD_DARK);
+        for (int i = 0; i < NUM_CARDS_PER_WILD; i++) {
+            cards.add(wildDraw);
         }
-
-        Collections.shuffle(deck);
+        return cards.toArray(new Card[0]);
     }
 
 
@@ -61,8 +131,12 @@ public class Deck {
      * @return The card at the top of the deck.
      */
     public Card takeCard() {
-        Card cardToTake = deck.pop();
-        inPlay.add(cardToTake);
+        if (deckSize == 0) {
+            throw new EmptyStackException();
+        }
+        Card cardToTake = deck[--deckSize];
+        deck[deckSize] = null;
+        inPlay[identity(cardToTake)]++;
         if (size() == 0) {
             resetDeck();
         }
@@ -78,61 +152,78 @@ public class Deck {
         if (card == null) {
             throw new NullPointerException();
         }
-        if (deck.size() == MAX_SIZE) {
+        if (deckSize == MAX_SIZE) {
             throw new IllegalStateException("The deck already contains all cards, cannot add more.");
         }
 
-        inPlay.remove(card);
-        discard.push(card);
-
-        if (card.isWild()) {
-            // need to check for 4 cards because there are 4 of each wild
-            if (frequency(card) > NUM_CARDS_PER_WILD) {
-                discard.pop();
-                throw new IllegalArgumentException("The card object passed already has its max amount in the deck.");
-            }
+        int identity = identity(card);
+        if (inPlay[identity] > 0) {
+            inPlay[identity]--;     // a card held by a player, it is already counted
         } else {
-            // need to check for 2 cards because there are 2 of each non-wild
-            if (frequency(card) > NUM_CARDS_PER_COLOUR) {
-                discard.pop();
+            // a card from outside the deck, there are 4 of each wild and 2 of each non-wild
+            if (frequency[identity] == (card.isWild() ? NUM_CARDS_PER_WILD : NUM_CARDS_PER_COLOUR)) {
                 throw new IllegalArgumentException("The card object passed already has its max amount in the deck.");
             }
+            frequency[identity]++;
+            cards[identity] = card;
+        }
+        if (discardSize == discard.length) {
+            discard = Arrays.copyOf(discard, discard.length * 2);   // only cards from outside the deck can get here
         }
+        discard[discardSize++] = card;
     }
 
     /**
      * returns the String representation of the Hand class XML format
      * @param numTabs the number of tabs the main opening tag should start with
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
      * @return the String representation of Hand Class
      */
-    public String toXML(int numTabs) {
-
-        String shorterTab = "";
-        String longerTab = "\t";
-
-        for (int i=0; i < numTabs; i++){
-            shorterTab += "\t";
-        }
-        longerTab += shorterTab;
-        numTabs +=1; //increment numTabs to pass to the double nested tags
-
-        StringBuilder xml = new StringBuilder(shorterTab +"<Deck>\n" + longerTab + "<deck>\n");
-        for (Card c : deck) {
-            xml.append(c.toXML( numTabs + 1)).append("\n");
-        }
+    public String toXML(int numTabs, boolean side) {
+        return XMLFormat.toString(out -> writeXML(out, numTabs, side));
+    }
 
-        xml.append(longerTab + "</deck>\n" + longerTab + "<discard>\n");
-        for (Card c : discard) {
-            xml.append(c.toXML(numTabs + 1)).append("\n");
+    /**
+     * Writes the XML format of the Deck class (see toXML) to a Writer
+     * @param out the Writer to write to
+     * @param numTabs the number of tabs the main opening tag should start with
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @throws IOException if the Writer fails
+     */
+    public void writeXML(Writer out, int numTabs, boolean side) throws IOException {
+        String shorterTab = XMLFormat.tabs(numTabs);
+        String longerTab = XMLFormat.tabs(numTabs + 1);
+
+        out.write(shorterTab);
+        out.write("<Deck>\n");
+        writeCardsXML(out, "deck", getDeck(), numTabs + 1, side);
+        writeCardsXML(out, "discard", getDiscard(), numTabs + 1, side);
+        writeCardsXML(out, "inPlay", getInPlay(), numTabs + 1, side);
+        out.write(shorterTab);
+        out.write("</Deck>");
+    }
 
+    /**
+     * Writes a list of cards to a Writer as an XML element holding one Card element per card
+     * @param out the Writer to write to
+     * @param name the name of the element
+     * @param cards the cards to write
+     * @param numTabs the number of tabs the opening tag should start with
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @throws IOException if the Writer fails
+     */
+    private static void writeCardsXML(Writer out, String name, List<Card> cards, int numTabs, boolean side)
+            throws IOException {
+        String tab = XMLFormat.tabs(numTabs);
+
+        out.write(tab);
+        out.write("<" + name + ">\n");
+        for (Card c : cards) {
+            c.writeXML(out, numTabs + 1, side);
+            out.write('\n');
         }
-        xml.append(longerTab + "</discard>\n" + longerTab + "<inPlay>\n");
-        for (Card c : inPlay) {
-            xml.append(c.toXML(numTabs + 1)).append("\n");
-        }
-        xml.append(longerTab + "</inPlay>\n" + shorterTab + "</Deck>");
-
-        return xml.toString();
+        out.write(tab);
+        out.write("</" + name + ">\n");
     }
 
 
@@ -142,7 +233,7 @@ public class Deck {
      * @return size of the deck to draw from
      */
     public int size() {
-        return deck.size();
+        return deckSize;
     }
 
 
@@ -151,85 +242,153 @@ public class Deck {
      * Cards being held by players will not be a part of the new deck to draw from.
      */
     private void resetDeck() {
-        Collections.shuffle(discard);
+        // swap the piles, the old deck array is empty and is reused as the new discard pile
+        Card[] emptyPile = deck;
         deck = discard;
-        discard = new Stack<Card>();
+        deckSize = discardSize;
+        discard = emptyPile;
+        discardSize = 0;
+        shuffle(deck, deckSize);
     }
 
-
     /**
-     * Gets the number of occurences of card in the deck (including discard) and in play.
-     * @param card The card to get the frequency of
-     * @return The frequency of the card
+     * Shuffles the first cards of a pile in place (Fisher-Yates).
+     * @param pile The pile to shuffle
+     * @param size The number of cards in the pile
      */
-    private int frequency(Card card) {
-        int count = 0;
-
-        for (Card c: deck) {
-            if (c.equals(card)) {
-                count++;
-            }
+    private void shuffle(Card[] pile, int size) {
+        RandomGenerator random = this.random != null ? this.random : ThreadLocalRandom.current();
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card swap = pile[i];
+            pile[i] = pile[j];
+            pile[j] = swap;
         }
+    }
 
-        for (Card c: discard) {
-            if (c.equals(card)) {
-                count++;
-            }
-        }
 
-        for (Card c: inPlay) {
-            if (c.equals((card))) {
-                count++;
-            }
+    /**
+     * Gets the index a card is counted at. Cards with the same light side rank and colour are copies of each other.
+     * @param card The card to get the index of
+     * @return The index of the card
+     */
+    private static int identity(Card card) {
+        return card.getLightRank().ordinal() * Card.Colour.values().length + card.getLightColour().ordinal();
+    }
+
+    /**
+     * Counts every card in the deck to draw from, the discard pile and in play again, after they have been replaced.
+     */
+    private void recount() {
+        frequency = inPlay.clone();
+        for (int i = 0; i < deckSize; i++) {
+            frequency[identity(deck[i])]++;
+            cards[identity(deck[i])] = deck[i];
+        }
+        for (int i = 0; i < discardSize; i++) {
+            frequency[identity(discard[i])]++;
+            cards[identity(discard[i])] = discard[i];
         }
-        return count;
     }
 
 
     /**
      * Adds all the non-coloured cards of a colour pair (light and dark pair)
+     * @param cards The list to add the cards to
      * @param lightColour The card's light side colour
      * @param darkColour The card's dark side colour
      */
-    private void addNonWildCardsToDeck(Card.Colour lightColour, Card.Colour darkColour) {
+    private static void addNonWildCardsToDeck(List<Card> cards, Card.Colour lightColour, Card.Colour darkColour) {
+        Card[] kinds = {
+                new Card(Card.Rank.ONE, lightColour, Card.Rank.ONE, darkColour),
+                new Card(Card.Rank.TWO, lightColour, Card.Rank.TWO, darkColour),
+                new Card(Card.Rank.THREE, lightColour, Card.Rank.THREE, darkColour),
+                new Card(Card.Rank.FOUR, lightColour, Card.Rank.FOUR, darkColour),
+                new Card(Card.Rank.FIVE, lightColour, Card.Rank.FIVE, darkColour),
+                new Card(Card.Rank.SIX, lightColour, Card.Rank.SIX, darkColour),
+                new Card(Card.Rank.SEVEN, lightColour, Card.Rank.SEVEN, darkColour),
+                new Card(Card.Rank.EIGHT, lightColour, Card.Rank.EIGHT, darkColour),
+                new Card(Card.Rank.NINE, lightColour, Card.Rank.NINE, darkColour),
+                new Card(Card.Rank.DRAW_ONE, lightColour, Card.Rank.DRAW_FIVE, darkColour),
+                new Card(Card.Rank.REVERSE, lightColour, Card.Rank.REVERSE, darkColour),
+                new Card(Card.Rank.SKIP, lightColour, Card.Rank.SKIP_EVERYONE, darkColour),
+                new Card(Card.Rank.FLIP, lightColour, Card.Rank.FLIP, darkColour)};
         for (int i = 0; i < NUM_CARDS_PER_COLOUR; i++) {
-            deck.push(new Card(Card.Rank.ONE, lightColour, Card.Rank.ONE, darkColour));
-            deck.push(new Card(Card.Rank.TWO, lightColour, Card.Rank.TWO, darkColour));
-            deck.push(new Card(Card.Rank.THREE, lightColour, Card.Rank.THREE, darkColour));
-            deck.push(new Card(Card.Rank.FOUR, lightColour, Card.Rank.FOUR, darkColour));
-            deck.push(new Card(Card.Rank.FIVE, lightColour, Card.Rank.FIVE, darkColour));
-            deck.push(new Card(Card.Rank.SIX, lightColour, Card.Rank.SIX, darkColour));
-            deck.push(new Card(Card.Rank.SEVEN, lightColour, Card.Rank.SEVEN, darkColour));
-            deck.push(new Card(Card.Rank.EIGHT, lightColour, Card.Rank.EIGHT, darkColour));
-            deck.push(new Card(Card.Rank.NINE, lightColour, Card.Rank.NINE, darkColour));
-            deck.push(new Card(Card.Rank.DRAW_ONE, lightColour, Card.Rank.DRAW_FIVE, darkColour));
-            deck.push(new Card(Card.Rank.REVERSE, lightColour, Card.Rank.REVERSE, darkColour));
-            deck.push(new Card(Card.Rank.SKIP, lightColour, Card.Rank.SKIP_EVERYONE, darkColour));
-            deck.push(new Card(Card.Rank.FLIP, lightColour, Card.Rank.FLIP, darkColour));
+            cards.addAll(Arrays.asList(kinds));
+        }
+    }
+
+    /**
+     * Returns the deck to draw from, the top of the deck is the last card.
+     * @return a read-only view of the deck to draw from
+     */
+    public List<Card> getDeck() {
+        return Collections.unmodifiableList(Arrays.asList(deck).subList(0, deckSize));
+    }
+
+    /**
+     * Returns the discard pile, the most recently discarded card is the last card.
+     * @return a read-only view of the discard pile
+     */
+    public List<Card> getDiscard() {
+        return Collections.unmodifiableList(Arrays.asList(discard).subList(0, discardSize));
+    }
+
+    /**
+     * Returns the cards that are in play (not in the deck to draw from or in the discard pile).
+     * Copies of a card are next to each other.
+     * @return a list of the cards in play
+     */
+    public List<Card> getInPlay() {
+        List<Card> cardsInPlay = new ArrayList<Card>();
+        for (int i = 0; i < NUM_IDENTITIES; i++) {
+            for (int j = 0; j < inPlay[i]; j++) {
+                cardsInPlay.add(cards[i]);
+            }
         }
+        return cardsInPlay;
     }
 
     /**
-     * Sets the deck (deck to draw from)
+     * Sets the deck (deck to draw from), the top of the deck is the last card
      * @param deck The deck to set with
      */
-    public void setDeck(Stack<Card> deck) {
-        this.deck = deck;
+    public void setDeck(List<Card> deck) {
+        this.deck = toPile(deck, this.deck);
+        this.deckSize = deck.size();
+        recount();
     }
 
     /**
-     * Sets the discard pile
+     * Sets the discard pile, the most recently discarded card is the last card
      * @param discard The discard pile to set with
      */
-    public void setDiscard(Stack<Card> discard) {
-        this.discard = discard;
+    public void setDiscard(List<Card> discard) {
+        this.discard = toPile(discard, this.discard);
+        this.discardSize = discard.size();
+        recount();
     }
 
     /**
-     * Sets the inPlay ArrayList
-     * @param inPlay The ArrayList to set with
+     * Copies a list of cards into a pile array, reusing the array if the cards fit
+     * @param cards The cards to copy
+     * @param pile The current array of the pile
+     * @return the array holding the cards
      */
-    public void setInPlay(ArrayList<Card> inPlay) {
-        this.inPlay = inPlay;
+    private static Card[] toPile(List<Card> cards, Card[] pile) {
+        return cards.toArray(cards.size() <= pile.length ? pile : new Card[cards.size()]);
+    }
+
+    /**
+     * Sets the cards in play
+     * @param inPlay The cards in play to set with
+     */
+    public void setInPlay(List<Card> inPlay) {
+        this.inPlay = new int[NUM_IDENTITIES];
+        for (Card c : inPlay) {
+            this.inPlay[identity(c)]++;
+            this.cards[identity(c)] = c;
+        }
+        recount();
     }
 }
@@ -0,0 +1,47 @@
+/**
+ * DefaultAIStrategy is the policy bots have always followed. It plays the first card matching the current colour or
+ * rank, keeping wild cards for when nothing else matches, and picks the most common colour in its hand after a
+ * wild card.
+ *
+ * Date: 2026-10-17
+ */
+public class DefaultAIStrategy implements AIStrategy {
+    private static final Card.Colour[] COLOURS = Card.Colour.values();
+
+    /**
+     * Returns the index of the first card in the hand matching the current colour or rank. If none matches, the index
+     * of the first wild card, and DRAW if there is no wild card either.
+     */
+    @Override
+    public int chooseCard(Hand hand, Card.Colour currentColour, Card.Rank currentRank, boolean side) {
+        int index = hand.indexOfMatch(currentRank, currentColour, side);
+        if (index < 0) {
+            // Otherwise play a wild card, or draw if there is none
+            Card.Colour wild = side == Card.LIGHT ? Card.Colour.WILD : Card.Colour.WILD_DARK;
+            index = hand.indexOfMatch(null, wild, side);
+        }
+        return index < 0 ? DRAW : index;
+    }
+
+    /**
+     * Returns the most occurring colour other than wild, the first in Card.Colour order on ties, or a default colour
+     * if the hand only has wild cards. The hand keeps its colour counts up to date, so this is an argmax over them.
+     */
+    @Override
+    public Card.Colour chooseColour(Hand hand, boolean isLight) {
+        // Pick default colour if the bot only has wild cards
+        Card.Colour mostColour = isLight ? Card.Colour.RED : Card.Colour.TEAL;
+        int max = 0;
+        for (Card.Colour colour : COLOURS) {
+            if (colour == Card.Colour.WILD || colour == Card.Colour.WILD_DARK || colour == Card.Colour.NULL) {
+                continue;
+            }
+            int count = hand.getColourCount(colour, isLight);
+            if (count > max) {
+                max = count;
+                mostColour = colour;
+            }
+        }
+        return mostColour;
+    }
+}
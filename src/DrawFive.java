@@ -17,8 +17,8 @@ public class DrawFive extends TurnSequence{
     @Override
     public void executeSequence(Card card) {
         unoFlipModel.setTopCard(card);
-        unoFlipModel.setCurrentColour(card.getColour());
-        unoFlipModel.setCurrentRank(card.getRank());
+        unoFlipModel.setCurrentColour(card.getColour(unoFlipModel.getCardSide()));
+        unoFlipModel.setCurrentRank(card.getRank(unoFlipModel.getCardSide()));
         unoFlipModel.drawNCards(5,unoFlipModel.getNextTurn());
         unoFlipModel.setSkipTurnFlag();
     }
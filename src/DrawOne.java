@@ -18,8 +18,8 @@ public class DrawOne extends TurnSequence {
     @Override
     public void executeSequence(Card card) {
         unoFlipModel.setTopCard(card);
-        unoFlipModel.setCurrentColour(card.getColour());
-        unoFlipModel.setCurrentRank(card.getRank());
+        unoFlipModel.setCurrentColour(card.getColour(unoFlipModel.getCardSide()));
+        unoFlipModel.setCurrentRank(card.getRank(unoFlipModel.getCardSide()));
         unoFlipModel.drawNCards(1, unoFlipModel.getNextTurn());
         unoFlipModel.setSkipTurnFlag();
     }
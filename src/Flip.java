@@ -19,8 +19,8 @@ public class Flip extends TurnSequence{
     public void executeSequence(Card card) {
         unoFlipModel.flipCardSide();
         unoFlipModel.setTopCard(card);
-        unoFlipModel.setCurrentColour(card.getColour());
-        unoFlipModel.setCurrentRank(card.getRank());
+        unoFlipModel.setCurrentColour(card.getColour(unoFlipModel.getCardSide()));
+        unoFlipModel.setCurrentRank(card.getRank(unoFlipModel.getCardSide()));
 
     }
 }
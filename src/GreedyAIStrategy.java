@@ -0,0 +1,65 @@
+/**
+ * GreedyAIStrategy sheds points as fast as it can. It plays the playable card worth the most points (see
+ * Hand.getScore(Card.Rank)), keeping wild cards for when nothing else matches, and after a wild card picks the
+ * colour of its most valuable remaining card so that card can be played next. It only reads the hand's card codes
+ * and allocates nothing, which makes it a cheap baseline for bulk simulations.
+ *
+ * Date: 2026-10-17
+ */
+public class GreedyAIStrategy implements AIStrategy {
+    private static final Card.Rank[] RANKS = Card.Rank.values();
+    private static final Card.Colour[] COLOURS = Card.Colour.values();
+
+    /**
+     * Returns the index of the matching card worth the most points, the first one on ties. If none matches, the
+     * index of the first wild card, and DRAW if there is no wild card either.
+     */
+    @Override
+    public int chooseCard(Hand hand, Card.Colour currentColour, Card.Rank currentRank, boolean side) {
+        Card.Colour wild = side == Card.LIGHT ? Card.Colour.WILD : Card.Colour.WILD_DARK;
+        if (!hand.hasMatch(currentRank, currentColour, side)) {
+            int index = hand.indexOfMatch(null, wild, side);
+            return index < 0 ? DRAW : index;
+        }
+
+        int rank = Card.ordinalOf(currentRank);
+        int colour = Card.ordinalOf(currentColour);
+        int best = DRAW;
+        int bestScore = -1;
+        for (int i = 0; i < hand.size(); i++) {
+            int code = hand.getCode(i);
+            if (Card.matches(code, side, rank, colour) && Card.colourOf(code, side) != wild.ordinal()) {
+                int score = Hand.getScore(RANKS[Card.rankOf(code, side)]);
+                if (score > bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+        }
+        // only wild cards match, which happens when the current colour is a wild colour
+        return best == DRAW ? hand.indexOfMatch(null, wild, side) : best;
+    }
+
+    /**
+     * Returns the colour of the non-wild card worth the most points, the first one on ties, or a default colour if
+     * the hand only has wild cards.
+     */
+    @Override
+    public Card.Colour chooseColour(Hand hand, boolean side) {
+        Card.Colour wild = side == Card.LIGHT ? Card.Colour.WILD : Card.Colour.WILD_DARK;
+        Card.Colour best = side == Card.LIGHT ? Card.Colour.RED : Card.Colour.TEAL;
+        int bestScore = -1;
+        for (int i = 0; i < hand.size(); i++) {
+            int code = hand.getCode(i);
+            int colour = Card.colourOf(code, side);
+            if (colour != wild.ordinal()) {
+                int score = Hand.getScore(RANKS[Card.rankOf(code, side)]);
+                if (score > bestScore) {
+                    best = COLOURS[colour];
+                    bestScore = score;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -1,23 +1,54 @@
 import java.awt.*;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * The Hand class represents a collection of Card objects held by a player
  * in a card game. It provides methods for adding cards to the hand, removing
  * cards from the hand, getting the size of the hand, and generating a string
  * representation of the hand.
+ * The hand keeps a count of its cards per rank, per colour and per rank and colour pair on each side, updated as
+ * cards are added and removed, so checking for a playable card takes constant time whatever the size of the hand.
  *
  * Author: Tharusha Herath
  * Date: 2023-10-18
  */
 public class Hand {
     private ArrayList<Card> cards;
+    private int[] codes;    // code of each card (see Card.getCode) in the same order as cards, for the hot paths
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NUM_RANKS = Card.Rank.values().length;
+    private static final int NUM_COLOURS = Card.Colour.values().length;
+
+    // number of cards of each rank, colour and (rank, colour) pair, indexed by side (see sideIndex) then ordinal
+    private int[][] rankCounts;
+    private int[][] colourCounts;
+    private int[][] pairCounts;     // rank ordinal * NUM_COLOURS + colour ordinal
 
     /**
      * Constructs an empty Hand object. Initializes an empty arraylist of cards.
      */
     public Hand() {
         this.cards = new ArrayList<Card>();
+        this.codes = new int[INITIAL_CAPACITY];
+        this.rankCounts = new int[2][NUM_RANKS];
+        this.colourCounts = new int[2][NUM_COLOURS];
+        this.pairCounts = new int[2][NUM_RANKS * NUM_COLOURS];
+    }
+
+    /**
+     * Constructs a copy of another hand. The copy holds the same Card objects but can be changed independently.
+     *
+     * @param other the hand to copy
+     */
+    public Hand(Hand other) {
+        this.cards = new ArrayList<Card>(other.cards);
+        this.codes = other.codes.clone();
+        this.rankCounts = new int[][] {other.rankCounts[0].clone(), other.rankCounts[1].clone()};
+        this.colourCounts = new int[][] {other.colourCounts[0].clone(), other.colourCounts[1].clone()};
+        this.pairCounts = new int[][] {other.pairCounts[0].clone(), other.pairCounts[1].clone()};
     }
 
     /**
@@ -26,6 +57,11 @@ public class Hand {
      * @param card the Card object to be added to the hand
      */
     public void addCard(Card card) {
+        if (cards.size() == codes.length) {
+            codes = Arrays.copyOf(codes, codes.length * 2);
+        }
+        codes[cards.size()] = card.getCode();
+        count(card.getCode(), 1);
         this.cards.add(card);
     }
 
@@ -40,9 +76,48 @@ public class Hand {
         if (index < 0 || index >= cards.size())
             throw new IndexOutOfBoundsException("ERROR: Out of index.");
 
+        count(codes[index], -1);
+        System.arraycopy(codes, index + 1, codes, index, cards.size() - index - 1);
         return this.cards.remove(index);
     }
 
+    /**
+     * Updates the rank, colour and pair counts of both sides for a card entering or leaving the hand.
+     *
+     * @param code the code of the card
+     * @param delta 1 if the card is added, -1 if it is removed
+     */
+    private void count(int code, int delta) {
+        for (int s = 0; s < 2; s++) {
+            boolean side = s == 0 ? Card.LIGHT : Card.DARK;
+            int rank = Card.rankOf(code, side);
+            int colour = Card.colourOf(code, side);
+            rankCounts[s][rank] += delta;
+            colourCounts[s][colour] += delta;
+            pairCounts[s][rank * NUM_COLOURS + colour] += delta;
+        }
+    }
+
+    /**
+     * Returns the index of a side in the count arrays.
+     */
+    private static int sideIndex(boolean side) {
+        return side == Card.LIGHT ? 0 : 1;
+    }
+
+    /**
+     * Returns the code (see Card.getCode) of the card at the specified index.
+     *
+     * @param index the index of the card
+     * @return the card's code
+     */
+    public int getCode(int index) {
+        if (index < 0 || index >= cards.size())
+            throw new IndexOutOfBoundsException("ERROR: Out of index.");
+
+        return codes[index];
+    }
+
     /**
      * Returns the number of cards in the hand.
      *
@@ -53,16 +128,27 @@ public class Hand {
     }
 
     /**
-     * Returns a string representation of the hand, including the index and
+     * Returns a string representation of the light side of the hand, including the
      * string representation of each card in the hand.
      *
      * @return a string representation of the hand
      */
     @Override
     public String toString() {
+        return toString(Card.LIGHT);
+    }
+
+    /**
+     * Returns a string representation of the hand on the given side, including the
+     * string representation of each card in the hand.
+     *
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return a string representation of the hand
+     */
+    public String toString(boolean side) {
         StringBuilder message = new StringBuilder();
         for (int i = 0; i < cards.size(); i++){
-            message.append(cards.get(i)).append(" ");
+            message.append(cards.get(i).toString(side)).append(" ");
         }
         return message.toString();
     }
@@ -71,28 +157,35 @@ public class Hand {
     /**
      * returns the String representation of the Hand class XML format
      * @param numTabs the number of tabs the main opening tag should start with
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
      * @return the String representation of Hand Class
      */
-    public String toXML(int numTabs) {
-
-        String shorterTab = "";
+    public String toXML(int numTabs, boolean side) {
+        return XMLFormat.toString(out -> writeXML(out, numTabs, side));
+    }
 
-        for (int i=0; i < numTabs; i++){
-             shorterTab += "\t";
-        }
+    /**
+     * writes the XML format of the Hand class (see toXML) to a Writer
+     * @param out the Writer to write to
+     * @param numTabs the number of tabs the main opening tag should start with
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @throws IOException if the Writer fails
+     */
+    public void writeXML(Writer out, int numTabs, boolean side) throws IOException {
+        String shorterTab = XMLFormat.tabs(numTabs);
 
-        StringBuilder xml = new StringBuilder(shorterTab + "<Hand>\n");
+        out.write(shorterTab);
+        out.write("<Hand>\n");
         for (Card card : cards) {
-            xml.append(card.toXML(numTabs + 1)).append("\n");
+            card.writeXML(out, numTabs + 1, side);
+            out.write('\n');
         }
-
-        xml.append(shorterTab + "</Hand>");
-
-        return xml.toString();
+        out.write(shorterTab);
+        out.write("</Hand>");
     }
 
     /**
-     * Gets the list of Card objects in the hand.
+     * Gets the list of Card objects in the hand. The list must not be modified, use addCard and popCard instead.
      *
      * @return an ArrayList of Card objects in the hand
      */
@@ -104,15 +197,94 @@ public class Hand {
      * Checks hand if the cards has a matching colour/wild or not.
      *
      * @param colour
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
      * @return returns true if the colour exists in the hand or the hand has a wild, false otherwise.
      */
-    public boolean colourInHand(Card.Colour colour){
-        for (Card card: cards){
-            if (card.getColour() == colour){
-                return true;
-            }
+    public boolean colourInHand(Card.Colour colour, boolean side){
+        return getColourCount(colour, side) > 0;
+    }
+
+    /**
+     * Returns the number of cards of the given colour on the given side.
+     *
+     * @param colour the colour to count, null counts no card
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return the number of cards of the colour
+     */
+    public int getColourCount(Card.Colour colour, boolean side){
+        return colour == null ? 0 : colourCounts[sideIndex(side)][colour.ordinal()];
+    }
+
+    /**
+     * Returns the number of cards of the given rank on the given side.
+     *
+     * @param rank the rank to count, null counts no card
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return the number of cards of the rank
+     */
+    public int getRankCount(Card.Rank rank, boolean side){
+        return rank == null ? 0 : rankCounts[sideIndex(side)][rank.ordinal()];
+    }
+
+    /**
+     * Returns the number of cards with both the given rank and the given colour on the given side.
+     *
+     * @param rank the rank to count, null counts no card
+     * @param colour the colour to count, null counts no card
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return the number of cards of the rank and colour
+     */
+    public int getCount(Card.Rank rank, Card.Colour colour, boolean side){
+        if (rank == null || colour == null){
+            return 0;
         }
-        return false;
+        return pairCounts[sideIndex(side)][rank.ordinal() * NUM_COLOURS + colour.ordinal()];
+    }
+
+    /**
+     * Returns the number of cards with the given rank or the given colour on the given side.
+     *
+     * @param rank the rank to match, null matches no card
+     * @param colour the colour to match, null matches no card
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return the number of matching cards
+     */
+    public int countMatches(Card.Rank rank, Card.Colour colour, boolean side){
+        return getRankCount(rank, side) + getColourCount(colour, side) - getCount(rank, colour, side);
+    }
+
+    /**
+     * Checks if the hand has a card with the given rank or colour.
+     *
+     * @param rank the rank to match
+     * @param colour the colour to match
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return true if a card has the rank or the colour, false otherwise
+     */
+    public boolean hasMatch(Card.Rank rank, Card.Colour colour, boolean side){
+        return countMatches(rank, colour, side) > 0;
+    }
+
+    /**
+     * Returns the index of the first card with the given rank or colour. The scan only runs when the counts show
+     * that there is such a card.
+     *
+     * @param rank the rank to match, null matches no card
+     * @param colour the colour to match, null matches no card
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
+     * @return the lowest index of a matching card, -1 if there is none
+     */
+    public int indexOfMatch(Card.Rank rank, Card.Colour colour, boolean side){
+        if (!hasMatch(rank, colour, side)){
+            return -1;
+        }
+        int rankOrdinal = Card.ordinalOf(rank);
+        int colourOrdinal = Card.ordinalOf(colour);
+        int i = 0;
+        while (!Card.matches(codes[i], side, rankOrdinal, colourOrdinal)){
+            i++;
+        }
+        return i;
     }
 
     /**
@@ -120,6 +292,11 @@ public class Hand {
      */
     public void empty() {
         this.cards.clear();
+        for (int s = 0; s < 2; s++) {
+            Arrays.fill(rankCounts[s], 0);
+            Arrays.fill(colourCounts[s], 0);
+            Arrays.fill(pairCounts[s], 0);
+        }
     }
 
     /**
@@ -128,19 +305,29 @@ public class Hand {
      *      Number card are counted as their face value.
      *      Action cards are counted as 20 points
      *      Wild and Wild Draw Four cards are counted as 50 points
+     * @param side The side that is face up (Card.LIGHT or Card.DARK)
      * @return the total score of the hand
      */
-    public int getScore(){
+    public int getScore(boolean side){
         int score =0;
         for(Card card: cards){
-            if( card.getRank().ordinal() < 9){ //If a number card 1->9
-                score += card.getRank().ordinal() + 1;
-            } else if (card.getRank().ordinal() >=9 && card.getRank().ordinal() < 12) { // If Action Card
-                score += 20;
-            } else if (card.getRank().ordinal() > 11){ //If a Wild or Wild Draw Four
-                score +=50;
-            }
+            score += getScore(card.getRank(side));
         }
         return score;
     }
+
+    /**
+     * Returns the score of a single card of the given rank (see getScore).
+     * @param rank the rank of the card
+     * @return the score of the card
+     */
+    public static int getScore(Card.Rank rank){
+        int ordinal = rank.ordinal();
+        if( ordinal < 9){ //If a number card 1->9
+            return ordinal + 1;
+        } else if (ordinal < 12) { // If Action Card
+            return 20;
+        }
+        return 50; //If a Wild or Wild Draw Four
+    }
 }
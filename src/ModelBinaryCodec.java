@@ -0,0 +1,302 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ModelBinaryCodec saves and loads the state of a game in a compact binary format, an alternative to the XML files.
+ * Each card is stored as its 3 byte code (see Card.getCode), enums as their ordinal and strings as UTF-8, so a whole
+ * game takes a few hundred bytes instead of tens of kilobytes of XML. Files are read and written in one go through
+ * NIO channels.
+ *
+ * Layout (big-endian): magic, version, flags, the turn fields, the colours and ranks, the top card, the status (kind
+ * and text), the draw pile, the discard pile, the cards in play, the players (kind, name, score, hand) and the player
+ * score lines. The kind of a player is 0 for a human and 1 + the index of its strategy in AI.SAVED_STRATEGIES for a
+ * bot.
+ *
+ * Date: 2026-10-17
+ */
+public final class ModelBinaryCodec {
+    private static final int MAGIC = 0x554E4F46;    // "UNOF"
+    private static final byte VERSION = 2;
+    private static final int CARD_BYTES = 3;
+    private static final int NO_CARD = 0xFFFFFF;    // never a valid code, Card.CODE_BITS is less than 24
+    private static final int NULL_STRING = -1;
+    private static final int MAX_FILE_SIZE = 1 << 20;
+
+    // bits of the flags byte
+    private static final int TURN_FINISHED = 1;
+    private static final int SKIP_TURN = 1 << 1;
+    private static final int SKIP_EVERYONE = 1 << 2;
+    private static final int TURN_DIRECTION = 1 << 3;
+    private static final int CARD_SIDE = 1 << 4;
+    private static final int IS_WINNER = 1 << 5;
+
+    // size of everything before the status: magic, version, flags, numPlayers, chosenCardIndex, currentTurn,
+    // nextPlayerIndex, the 4 colours and ranks, the top card and the kind of status
+    private static final int HEADER_BYTES = 4 + 1 + 1 + 1 + 2 + 1 + 1 + 4 + CARD_BYTES + 1;
+
+    private ModelBinaryCodec() {
+    }
+
+    /**
+     * Writes a game state to a file, atomically replacing the file if it exists.
+     * @param snapshot The game state to write
+     * @param path The file to write to
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(ModelSnapshot snapshot, Path path) throws IOException {
+        ByteBuffer buffer = encode(snapshot);
+        AtomicFileWriter.write(path, channel -> {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Reads a game state from a file written by write.
+     * @param path The file to read from
+     * @return The game state
+     * @throws IOException if the file cannot be read or is not a valid save file
+     */
+    public static ModelSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException("Save file is too large: " + size + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+            return decode(buffer);
+        }
+    }
+
+    /**
+     * Encodes a game state.
+     * @param snapshot The game state to encode
+     * @return a buffer holding the encoded game, ready to be read
+     */
+    public static ByteBuffer encode(ModelSnapshot snapshot) {
+        Deck deck = snapshot.copyDeck();
+        ArrayList<Player> players = snapshot.copyPlayers();
+        ArrayList<String> playerScores = snapshot.copyPlayerScores();
+
+        // encode the strings first so that the buffer can be allocated at its exact size
+        byte[] status = toBytes(snapshot.getStatus());
+        byte[][] names = new byte[players.size()][];
+        byte[][] scores = new byte[playerScores.size()][];
+        int size = HEADER_BYTES + stringSize(status) + cardsSize(deck.getDeck()) + cardsSize(deck.getDiscard())
+                + cardsSize(deck.getInPlay()) + 1 + 1;
+        for (int i = 0; i < players.size(); i++) {
+            names[i] = toBytes(players.get(i).getName());
+            size += 1 + stringSize(names[i]) + 4 + cardsSize(players.get(i).getHand().getCards());
+        }
+        for (int i = 0; i < playerScores.size(); i++) {
+            scores[i] = toBytes(playerScores.get(i));
+            size += stringSize(scores[i]);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) ((snapshot.getTurnFinished() ? TURN_FINISHED : 0)
+                | (snapshot.getSkipTurn() ? SKIP_TURN : 0)
+                | (snapshot.getSkipEveryone() ? SKIP_EVERYONE : 0)
+                | (snapshot.getTurnDirection() ? TURN_DIRECTION : 0)
+                | (snapshot.getCardSide() ? CARD_SIDE : 0)
+                | (snapshot.getIsWinner() ? IS_WINNER : 0)));
+        buffer.put((byte) snapshot.getNumPlayers());
+        buffer.putShort((short) snapshot.getChosenCardIndex());
+        buffer.put((byte) snapshot.getCurrentTurn());
+        buffer.put((byte) snapshot.getNextPlayerIndex());
+        putEnum(buffer, snapshot.getCurrentColour());
+        putEnum(buffer, snapshot.getPreviousColour());
+        putEnum(buffer, snapshot.getCurrentRank());
+        putEnum(buffer, snapshot.getPreviousRank());
+        putCard(buffer, snapshot.getTopCard());
+        putEnum(buffer, snapshot.getStatusType());
+        putString(buffer, status);
+
+        putCards(buffer, deck.getDeck());
+        putCards(buffer, deck.getDiscard());
+        putCards(buffer, deck.getInPlay());
+
+        buffer.put((byte) players.size());
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            int kind = player instanceof AI ? 1 + AI.SAVED_STRATEGIES.indexOf(((AI) player).getStrategyName()) : 0;
+            buffer.put((byte) kind);
+            putString(buffer, names[i]);
+            buffer.putInt(player.getPlayerScore());
+            putCards(buffer, player.getHand().getCards());
+        }
+        buffer.put((byte) scores.length);
+        for (byte[] score : scores) {
+            putString(buffer, score);
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes a game state encoded by encode.
+     * @param buffer The buffer to read the encoded game from
+     * @return The game state
+     * @throws IOException if the buffer does not hold a valid encoded game
+     */
+    public static ModelSnapshot decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an Uno Flip save file");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported save file version: " + version);
+            }
+            int flags = buffer.get();
+            int numPlayers = buffer.get();
+            int chosenCardIndex = buffer.getShort();
+            int currentTurn = buffer.get();
+            int nextPlayerIndex = buffer.get();
+            Card.Colour currentColour = getEnum(buffer, Card.Colour.values());
+            Card.Colour previousColour = getEnum(buffer, Card.Colour.values());
+            Card.Rank currentRank = getEnum(buffer, Card.Rank.values());
+            Card.Rank previousRank = getEnum(buffer, Card.Rank.values());
+            Card topCard = getCard(buffer);
+            UnoFlipEvent.Status statusType = getEnum(buffer, UnoFlipEvent.Status.values());
+            String status = getString(buffer);
+
+            Deck deck = new Deck();
+            ArrayList<Card> drawPile = new ArrayList<>();
+            getCards(buffer, drawPile);
+            ArrayList<Card> discard = new ArrayList<>();
+            getCards(buffer, discard);
+            ArrayList<Card> inPlay = new ArrayList<>();
+            getCards(buffer, inPlay);
+            deck.setDeck(drawPile);
+            deck.setDiscard(discard);
+            deck.setInPlay(inPlay);
+
+            int playerCount = buffer.get();
+            ArrayList<Player> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                int kind = buffer.get();
+                if (kind < 0 || kind > AI.SAVED_STRATEGIES.size()) {
+                    throw new IllegalArgumentException("Invalid player kind: " + kind);
+                }
+                String name = getString(buffer);
+                Player player = kind == 0 ? new Player(name)
+                        : new AI(name, AI.createStrategy(AI.SAVED_STRATEGIES.get(kind - 1)));
+                player.setPlayerScore(buffer.getInt());
+                ArrayList<Card> hand = new ArrayList<>();
+                getCards(buffer, hand);
+                for (Card card : hand) {
+                    player.addCardToHand(card);
+                }
+                players.add(player);
+            }
+            int scoreCount = buffer.get();
+            ArrayList<String> playerScores = new ArrayList<>(scoreCount);
+            for (int i = 0; i < scoreCount; i++) {
+                playerScores.add(getString(buffer));
+            }
+
+            return new ModelSnapshot((flags & TURN_FINISHED) != 0, (flags & SKIP_TURN) != 0,
+                    (flags & SKIP_EVERYONE) != 0, (flags & TURN_DIRECTION) != 0, numPlayers, chosenCardIndex,
+                    currentTurn, nextPlayerIndex, status, statusType, currentColour, previousColour, currentRank,
+                    previousRank, topCard, (flags & CARD_SIDE) != 0, (flags & IS_WINNER) != 0, deck, players,
+                    playerScores);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Save file is truncated");
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Save file is corrupt: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] toBytes(String s) {
+        return s == null ? null : s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] s) {
+        return 2 + (s == null ? 0 : s.length);
+    }
+
+    private static int cardsSize(List<Card> cards) {
+        return 2 + cards.size() * CARD_BYTES;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] s) {
+        if (s == null) {
+            buffer.putShort((short) NULL_STRING);
+        } else {
+            buffer.putShort((short) s.length);
+            buffer.put(s);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        byte[] s = new byte[length];
+        buffer.get(s);
+        return new String(s, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes an enum as one byte, 0 for null and the ordinal + 1 otherwise.
+     */
+    private static void putEnum(ByteBuffer buffer, Enum<?> value) {
+        buffer.put((byte) (value == null ? 0 : value.ordinal() + 1));
+    }
+
+    private static <E extends Enum<E>> E getEnum(ByteBuffer buffer, E[] values) {
+        int value = buffer.get();
+        if (value < 0 || value > values.length) {
+            throw new IllegalArgumentException("Invalid " + values[0].getDeclaringClass().getSimpleName() + ": " + value);
+        }
+        return value == 0 ? null : values[value - 1];
+    }
+
+    private static void putCard(ByteBuffer buffer, Card card) {
+        int code = card == null ? NO_CARD : card.getCode();
+        buffer.put((byte) (code >>> 16));
+        buffer.putShort((short) code);
+    }
+
+    private static Card getCard(ByteBuffer buffer) {
+        int code = (buffer.get() & 0xFF) << 16 | buffer.getShort() & 0xFFFF;
+        return code == NO_CARD ? null : Card.fromCode(code);
+    }
+
+    private static void putCards(ByteBuffer buffer, List<Card> cards) {
+        buffer.putShort((short) cards.size());
+        for (Card card : cards) {
+            putCard(buffer, card);
+        }
+    }
+
+    private static void getCards(ByteBuffer buffer, List<Card> cards) {
+        int count = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            cards.add(getCard(buffer));
+        }
+    }
+}
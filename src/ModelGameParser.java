@@ -0,0 +1,319 @@
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ModelGameParser reads a saved game in one SAX pass and fills in a ModelSnapshot directly, without building a
+ * throwaway UnoFlipModel. It reads the single file written by UnoFlipModel.exportToXMLFile(String), where the model
+ * data, the deck and the players are sections of one UnoFlipGame element, as well as the three separate files
+ * written by UnoFlipModel.exportToXMLFile(String, String).
+ * The SAXParserFactory is shared and each ModelGameParser keeps its SAXParser, so a parser can be reused to read any
+ * number of games. A ModelGameParser must only be used by one thread at a time.
+ *
+ * Date: 2026-10-17
+ */
+public class ModelGameParser extends DefaultHandler {
+    public static final String GAME_ELEMENT = "UnoFlipGame";
+    public static final String DATA_ELEMENT = "UnoFlipModel";
+    public static final String DECK_ELEMENT = "Deck";
+    public static final String PLAYERS_ELEMENT = "players";
+
+    private static final SAXParserFactory FACTORY = SAXParserFactory.newInstance();
+
+    /**
+     * The part of a saved game being read.
+     */
+    private enum Section {NONE, DATA, DECK, PLAYERS}
+
+    private SAXParser parser;   // created on first use and reused by every parse
+    private final StringBuilder elementContent = new StringBuilder();
+    private Section section;
+    private List<Card> pile;    // deck pile the cards being read belong to, null outside of the piles
+
+    // the model data
+    private boolean turnFinished;
+    private boolean skipTurn;
+    private boolean skipEveryone;
+    private boolean turnDirection;
+    private int numPlayers;
+    private int chosenCardIndex;
+    private int currentTurn;
+    private int nextPlayerIndex;
+    private String status;
+    private UnoFlipEvent.Status statusType;
+    private Card.Colour currentColour;
+    private Card.Colour previousColour;
+    private Card.Rank currentRank;
+    private Card.Rank previousRank;
+    private Card topCard;
+    private boolean cardSide;
+    private boolean isWinner;
+
+    // the deck and the players
+    private ArrayList<Card> deck;
+    private ArrayList<Card> discard;
+    private ArrayList<Card> inPlay;
+    private ArrayList<Player> players;
+
+    // the card being read
+    private Card.Rank lightRank;
+    private Card.Colour lightColour;
+    private Card.Rank darkRank;
+    private Card.Colour darkColour;
+
+    /**
+     * Reads a game saved in a single XML file.
+     * @param fileName The name of the file to read
+     * @return the saved game, with no player score lines
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public ModelSnapshot readXMLGameFile(String fileName) throws IOException {
+        clear();
+        parse(fileName);
+        return toSnapshot();
+    }
+
+    /**
+     * Reads a game saved in three XML files, one for the model data, one for the players and one for the deck.
+     * @param dataFileName The name of the file holding the model data
+     * @param playersFileName The name of the file holding the players
+     * @param deckFileName The name of the file holding the deck
+     * @return the saved game, with no player score lines
+     * @throws IOException if a file cannot be read or parsed
+     */
+    public ModelSnapshot readXMLModelFiles(String dataFileName, String playersFileName, String deckFileName)
+            throws IOException {
+        clear();
+        parse(dataFileName);
+        parse(playersFileName);
+        parse(deckFileName);
+        return toSnapshot();
+    }
+
+    /**
+     * Parses a file, adding what it holds to the state read so far.
+     * @param fileName The name of the file to parse
+     * @throws IOException if the file cannot be read or parsed
+     */
+    private void parse(String fileName) throws IOException {
+        try {
+            if (parser == null) {
+                synchronized (FACTORY) {    // a SAXParserFactory is not thread-safe
+                    parser = FACTORY.newSAXParser();
+                }
+            }
+            parser.parse(new File(fileName), this);
+        } catch (ParserConfigurationException | SAXException | IllegalArgumentException e) {
+            throw new IOException(e);   // IllegalArgumentException: a value that is not a rank, colour or number
+        } finally {
+            if (parser != null) {
+                parser.reset();
+            }
+        }
+    }
+
+    /**
+     * Forgets the state read by the previous parse.
+     */
+    private void clear() {
+        turnFinished = false;
+        skipTurn = false;
+        skipEveryone = false;
+        turnDirection = true;
+        numPlayers = 0;
+        chosenCardIndex = 0;
+        currentTurn = 0;
+        nextPlayerIndex = 0;
+        status = null;
+        statusType = UnoFlipEvent.Status.OTHER;    // games saved before the kind of status was saved have none
+        currentColour = null;
+        previousColour = null;
+        currentRank = null;
+        previousRank = null;
+        topCard = null;
+        cardSide = Card.LIGHT;
+        isWinner = false;
+        deck = new ArrayList<>();
+        discard = new ArrayList<>();
+        inPlay = new ArrayList<>();
+        players = new ArrayList<>();
+    }
+
+    /**
+     * Returns the state read so far as a snapshot.
+     * @return the snapshot
+     */
+    private ModelSnapshot toSnapshot() {
+        Deck modelDeck = new Deck();
+        modelDeck.setDeck(deck);
+        modelDeck.setDiscard(discard);
+        modelDeck.setInPlay(inPlay);
+        return new ModelSnapshot(turnFinished, skipTurn, skipEveryone, turnDirection, numPlayers, chosenCardIndex,
+                currentTurn, nextPlayerIndex, status, statusType, currentColour, previousColour, currentRank,
+                previousRank, topCard, cardSide, isWinner, modelDeck, players, new ArrayList<String>());
+    }
+
+    @Override
+    public void startDocument() {
+        section = Section.NONE;
+        pile = null;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (qName) {
+            case DATA_ELEMENT:
+                section = Section.DATA;
+                break;
+            case DECK_ELEMENT:
+                section = Section.DECK;
+                break;
+            case PLAYERS_ELEMENT:
+                section = Section.PLAYERS;
+                break;
+            case "deck":
+                pile = deck;
+                break;
+            case "discard":
+                pile = discard;
+                break;
+            case "inPlay":
+                pile = inPlay;
+                break;
+            case "Player":
+                players.add(new Player(""));    // the name is set once its element is read
+                break;
+            case "AI":
+                players.add(new AI(""));     // the name is set once its element is read, no bot number is taken
+                break;
+        }
+        elementContent.setLength(0);
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        elementContent.append(ch, start, length);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        String content = elementContent.toString();
+        switch (qName) {
+            // the card being read
+            case "lightRank":
+                lightRank = Card.Rank.valueOf(content.toUpperCase());
+                break;
+            case "lightColour":
+                lightColour = Card.Colour.valueOf(content.toUpperCase());
+                break;
+            case "darkRank":
+                darkRank = Card.Rank.valueOf(content.toUpperCase());
+                break;
+            case "darkColour":
+                darkColour = Card.Colour.valueOf(content.toUpperCase());
+                break;
+            case "side":
+                if (section == Section.DATA) {  // the top card holds the side of the game
+                    cardSide = Boolean.parseBoolean(content);
+                }
+                break;
+            case "Card":
+                endCard(Card.valueOf(lightRank, lightColour, darkRank, darkColour));
+                break;
+
+            // the deck
+            case "deck":
+            case "discard":
+            case "inPlay":
+                pile = null;
+                break;
+
+            // the players
+            case "strategy":
+                // written before the hand, so the bot can be replaced before it holds any card
+                players.set(players.size() - 1, new AI("", AI.createStrategy(content)));
+                break;
+            case "name":
+                players.get(players.size() - 1).setName(content);
+                break;
+            case "playerScore":
+                players.get(players.size() - 1).setPlayerScore(Integer.parseInt(content));
+                break;
+
+            // the model data
+            case "turnFinished":
+                turnFinished = Boolean.parseBoolean(content);
+                break;
+            case "skipTurn":
+                skipTurn = Boolean.parseBoolean(content);
+                break;
+            case "skipEveryone":
+                skipEveryone = Boolean.parseBoolean(content);
+                break;
+            case "turnDirection":
+                turnDirection = Boolean.parseBoolean(content);
+                break;
+            case "numPlayer":
+                numPlayers = Integer.parseInt(content);
+                break;
+            case "chosenCardIndex":
+                chosenCardIndex = Integer.parseInt(content);
+                break;
+            case "currentTurn":
+                currentTurn = Integer.parseInt(content);
+                break;
+            case "nextPlayerIndex":
+                nextPlayerIndex = Integer.parseInt(content);
+                break;
+            case "status":
+                status = content;
+                break;
+            case "statusType":
+                statusType = UnoFlipEvent.Status.valueOf(content);
+                break;
+            case "currentColour":
+                currentColour = Card.Colour.valueOf(content.toUpperCase());
+                break;
+            case "previousColour":
+                previousColour = Card.Colour.valueOf(content.toUpperCase());
+                break;
+            case "currentRank":
+                currentRank = Card.Rank.valueOf(content.toUpperCase());
+                break;
+            case "previousRank":
+                previousRank = Card.Rank.valueOf(content.toUpperCase());
+                break;
+            case "isWinner":
+                isWinner = Boolean.parseBoolean(content);
+                break;
+        }
+    }
+
+    /**
+     * Puts a card that has been fully read where it belongs in the section being read.
+     * @param card The card
+     */
+    private void endCard(Card card) {
+        switch (section) {
+            case DATA:
+                topCard = card;
+                break;
+            case DECK:
+                if (pile != null) {
+                    pile.add(card);
+                }
+                break;
+            case PLAYERS:
+                players.get(players.size() - 1).addCardToHand(card);
+                break;
+        }
+    }
+}
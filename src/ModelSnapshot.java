@@ -0,0 +1,225 @@
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+/**
+ * ModelSnapshot is an in-memory copy of the state of an UnoFlipModel at one point in the game, used to undo and redo
+ * turns without going through files. The deck and the players are copied when the snapshot is taken and copied again
+ * every time they are handed out, so a snapshot never changes and can be restored any number of times.
+ * Cards are never modified during a game, so the copies share the Card objects with the game.
+ *
+ * Date: 2026-10-17
+ */
+public class ModelSnapshot {
+    private final boolean turnFinished;
+    private final boolean skipTurn;
+    private final boolean skipEveryone;
+    private final boolean turnDirection;
+    private final int numPlayers;
+    private final int chosenCardIndex;
+    private final int currentTurn;
+    private final int nextPlayerIndex;
+    private final String status;
+    private final UnoFlipEvent.Status statusType;
+    private final Card.Colour currentColour;
+    private final Card.Colour previousColour;
+    private final Card.Rank currentRank;
+    private final Card.Rank previousRank;
+    private final Card topCard;
+    private final boolean cardSide;
+    private final boolean isWinner;
+    private final Deck deck;
+    private final ArrayList<Player> players;
+    private final ArrayList<String> playerScores;
+
+    /**
+     * Takes a snapshot of the current state of a game.
+     * @param model The game to take a snapshot of
+     */
+    public ModelSnapshot(UnoFlipModel model) {
+        this.turnFinished = model.getTurnFinished();
+        this.skipTurn = model.getSkipTurn();
+        this.skipEveryone = model.getSkipEveryone();
+        this.turnDirection = model.getTurnDirection();
+        this.numPlayers = model.getNumPlayers();
+        this.chosenCardIndex = model.getChosenCardIndex();
+        this.currentTurn = model.getCurrentTurn();
+        this.nextPlayerIndex = model.getNextTurn();
+        this.status = model.getStatus();
+        this.statusType = model.getStatusType();
+        this.currentColour = model.getCurrentColour();
+        this.previousColour = model.getPreviousColour();
+        this.currentRank = model.getCurrentRank();
+        this.previousRank = model.getPreviousRank();
+        this.topCard = model.getTopCard();
+        this.cardSide = model.getCardSide();
+        this.isWinner = model.getIsWinner();
+        this.deck = new Deck(model.getDeck());
+        this.players = copyPlayers(model.getPlayers());
+        this.playerScores = new ArrayList<String>(model.getPlayerScores());
+    }
+
+    /**
+     * Creates a snapshot from saved game state, used when a game is read back from a file.
+     * The deck and players are copied, so they can be changed afterwards without affecting the snapshot.
+     * @param turnFinished if the current player has finished their turn
+     * @param skipTurn if the next player's turn is skipped
+     * @param skipEveryone if every other player's turn is skipped
+     * @param turnDirection the direction of play, true if clockwise
+     * @param numPlayers the number of players
+     * @param chosenCardIndex the index of the card chosen by the current player
+     * @param currentTurn the index of the current player
+     * @param nextPlayerIndex the index of the next player
+     * @param status the status message
+     * @param statusType the kind of update the status message reports
+     * @param currentColour the colour to match
+     * @param previousColour the colour to match before the top card was played
+     * @param currentRank the rank to match
+     * @param previousRank the rank to match before the top card was played
+     * @param topCard the top card of the discard pile
+     * @param cardSide the side of the cards that is face up
+     * @param isWinner if the current player has won the round
+     * @param deck the deck
+     * @param players the players
+     * @param playerScores the player score lines
+     */
+    public ModelSnapshot(boolean turnFinished, boolean skipTurn, boolean skipEveryone, boolean turnDirection,
+                         int numPlayers, int chosenCardIndex, int currentTurn, int nextPlayerIndex, String status,
+                         UnoFlipEvent.Status statusType, Card.Colour currentColour, Card.Colour previousColour,
+                         Card.Rank currentRank, Card.Rank previousRank, Card topCard, boolean cardSide,
+                         boolean isWinner, Deck deck, ArrayList<Player> players, ArrayList<String> playerScores) {
+        this.turnFinished = turnFinished;
+        this.skipTurn = skipTurn;
+        this.skipEveryone = skipEveryone;
+        this.turnDirection = turnDirection;
+        this.numPlayers = numPlayers;
+        this.chosenCardIndex = chosenCardIndex;
+        this.currentTurn = currentTurn;
+        this.nextPlayerIndex = nextPlayerIndex;
+        this.status = status;
+        this.statusType = statusType;
+        this.currentColour = currentColour;
+        this.previousColour = previousColour;
+        this.currentRank = currentRank;
+        this.previousRank = previousRank;
+        this.topCard = topCard;
+        this.cardSide = cardSide;
+        this.isWinner = isWinner;
+        this.deck = new Deck(deck);
+        this.players = copyPlayers(players);
+        this.playerScores = new ArrayList<String>(playerScores);
+    }
+
+    /**
+     * Returns an independent copy of the snapshot's deck.
+     * @return a copy of the deck
+     */
+    public Deck copyDeck() {
+        return new Deck(deck);
+    }
+
+    /**
+     * Returns an independent copy of the snapshot's deck that shuffles with the given generator.
+     * @param random The generator the copy shuffles with, null to use the calling thread's ThreadLocalRandom
+     * @return a copy of the deck
+     */
+    public Deck copyDeck(RandomGenerator random) {
+        return new Deck(deck, random);
+    }
+
+    /**
+     * Returns independent copies of the snapshot's players.
+     * @return a copy of the players
+     */
+    public ArrayList<Player> copyPlayers() {
+        return copyPlayers(players);
+    }
+
+    /**
+     * Returns a copy of the snapshot's player score lines.
+     * @return a copy of the player scores
+     */
+    public ArrayList<String> copyPlayerScores() {
+        return new ArrayList<String>(playerScores);
+    }
+
+    /**
+     * Copies each player in a list of players.
+     * @param players The players to copy
+     * @return a new list with a copy of each player
+     */
+    private static ArrayList<Player> copyPlayers(ArrayList<Player> players) {
+        ArrayList<Player> copies = new ArrayList<Player>(players.size());
+        for (Player p : players) {
+            copies.add(p.copy());
+        }
+        return copies;
+    }
+
+    public boolean getTurnFinished() {
+        return turnFinished;
+    }
+
+    public boolean getSkipTurn() {
+        return skipTurn;
+    }
+
+    public boolean getSkipEveryone() {
+        return skipEveryone;
+    }
+
+    public boolean getTurnDirection() {
+        return turnDirection;
+    }
+
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    public int getChosenCardIndex() {
+        return chosenCardIndex;
+    }
+
+    public int getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public int getNextPlayerIndex() {
+        return nextPlayerIndex;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public UnoFlipEvent.Status getStatusType() {
+        return statusType;
+    }
+
+    public Card.Colour getCurrentColour() {
+        return currentColour;
+    }
+
+    public Card.Colour getPreviousColour() {
+        return previousColour;
+    }
+
+    public Card.Rank getCurrentRank() {
+        return currentRank;
+    }
+
+    public Card.Rank getPreviousRank() {
+        return previousRank;
+    }
+
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    public boolean getCardSide() {
+        return cardSide;
+    }
+
+    public boolean getIsWinner() {
+        return isWinner;
+    }
+}
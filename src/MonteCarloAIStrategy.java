@@ -0,0 +1,338 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MonteCarloAIStrategy picks its card by playing the rest of the game out many times. For each playout it deals the
+ * cards it cannot see (the other players' hands and the draw pile) at random, keeping every hand at its real size,
+ * plays one of its playable cards and lets every player finish the game with GreedyAIStrategy. It then plays the
+ * card with the best average result: the winner's score (see UnoFlipModel.getWinnerScore) when it wins, and minus
+ * the points left in its hand when another player wins.
+ *
+ * The search is bounded by a wall-clock budget per move and an optional cap on the number of playouts, and is
+ * split into parallel tasks run by the common ForkJoinPool, so strategies hold no threads of their own and need no
+ * shutting down. Playouts run on forks of the game (see UnoFlipModel.fork), so the real game
+ * is never changed and no view, Swing component or file is touched. The colour after a wild card is picked as
+ * GreedyAIStrategy would.
+ *
+ * Date: 2026-10-17
+ */
+public class MonteCarloAIStrategy implements AIStrategy {
+    public static final long DEFAULT_BUDGET_MILLIS = 100;
+    private static final AIStrategy PLAYOUT_POLICY = new GreedyAIStrategy();
+
+    private final long budgetNanos;
+    private final int maxPlayouts;
+    private final int parallelism;      // number of tasks the playouts of a move are split into
+    private final Long seed;            // the seed of every search, null to seed each search from ThreadLocalRandom
+
+    /**
+     * Constructs a strategy that searches for DEFAULT_BUDGET_MILLIS per move, split into one task per core.
+     */
+    public MonteCarloAIStrategy() {
+        this(DEFAULT_BUDGET_MILLIS, Integer.MAX_VALUE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a strategy.
+     * @param budgetMillis The time to search for per move, in milliseconds
+     * @param maxPlayouts The most playouts to run per move, whatever the time left
+     * @param parallelism The number of tasks running playouts, 1 to run them on the calling thread
+     * @throws IllegalArgumentException if the budget, the number of playouts or the parallelism is not positive
+     */
+    public MonteCarloAIStrategy(long budgetMillis, int maxPlayouts, int parallelism) {
+        this(budgetMillis, maxPlayouts, parallelism, null);
+    }
+
+    /**
+     * Constructs a strategy that deals and shuffles the same way on every search, so it picks the same card every time
+     * it is given the same game, as long as the number of playouts, not the budget, ends the search.
+     * @param budgetMillis The time to search for per move, in milliseconds
+     * @param maxPlayouts The most playouts to run per move, whatever the time left
+     * @param parallelism The number of tasks running playouts, 1 to run them on the calling thread
+     * @param seed The seed of the deals and shuffles of every search
+     * @throws IllegalArgumentException if the budget, the number of playouts or the parallelism is not positive
+     */
+    public MonteCarloAIStrategy(long budgetMillis, int maxPlayouts, int parallelism, long seed) {
+        this(budgetMillis, maxPlayouts, parallelism, Long.valueOf(seed));
+    }
+
+    private MonteCarloAIStrategy(long budgetMillis, int maxPlayouts, int parallelism, Long seed) {
+        if (budgetMillis <= 0 || maxPlayouts <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Budget, playouts and parallelism must be positive");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000;
+        this.maxPlayouts = maxPlayouts;
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    /**
+     * Without the rest of the game there is nothing to search, so the card is picked as GreedyAIStrategy would.
+     */
+    @Override
+    public int chooseCard(Hand hand, Card.Colour currentColour, Card.Rank currentRank, boolean side) {
+        return PLAYOUT_POLICY.chooseCard(hand, currentColour, currentRank, side);
+    }
+
+    /**
+     * Returns the playable card with the best average playout result, DRAW if the bot has no playable card.
+     */
+    @Override
+    public int chooseCard(UnoFlipModel game) {
+        int[] candidates = candidates(game.getCurrentPlayer().getHand(), game.getCurrentColour(),
+                game.getCurrentRank(), game.getCardSide());
+        if (candidates.length <= 1) {
+            return candidates.length == 0 ? DRAW : candidates[0];
+        }
+
+        Search search = new Search(game, candidates);
+        long deadline = System.nanoTime() + budgetNanos;
+        SplittableRandom seeds = new SplittableRandom(seed == null ? ThreadLocalRandom.current().nextLong() : seed);
+        if (parallelism == 1) {
+            return search.best(search.run(deadline, maxPlayouts, 0, seeds.nextLong()));
+        }
+
+        List<Callable<Result>> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            // give the first (maxPlayouts % parallelism) workers one extra playout
+            int playouts = maxPlayouts / parallelism + (i < maxPlayouts % parallelism ? 1 : 0);
+            int first = i;
+            long workerSeed = seeds.nextLong();
+            if (playouts > 0) {
+                workers.add(() -> search.run(deadline, playouts, first, workerSeed));
+            }
+        }
+        Result total = new Result(candidates.length);
+        try {
+            for (Future<Result> result : ForkJoinPool.commonPool().invokeAll(workers)) {
+                total.add(result.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A playout failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return chooseCard(game.getCurrentPlayer().getHand(), game.getCurrentColour(), game.getCurrentRank(),
+                    game.getCardSide());
+        }
+        return search.best(total);
+    }
+
+    @Override
+    public Card.Colour chooseColour(Hand hand, boolean side) {
+        return PLAYOUT_POLICY.chooseColour(hand, side);
+    }
+
+    /**
+     * Lists the playable cards of a hand, keeping only the first of identical cards since they play the same.
+     * @param hand The bot's hand
+     * @param currentColour The current colour of the game
+     * @param currentRank The current rank of the game
+     * @param side The side of the cards that is face up
+     * @return the indexes of the playable cards, lowest first
+     */
+    private static int[] candidates(Hand hand, Card.Colour currentColour, Card.Rank currentRank, boolean side) {
+        int rank = Card.ordinalOf(currentRank);
+        int colour = Card.ordinalOf(currentColour);
+        int wild = (side == Card.LIGHT ? Card.Colour.WILD : Card.Colour.WILD_DARK).ordinal();
+        int[] candidates = new int[hand.size()];
+        int numCandidates = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            int code = hand.getCode(i);
+            if (Card.matches(code, side, rank, colour) || Card.colourOf(code, side) == wild) {
+                boolean seen = false;
+                for (int j = 0; j < numCandidates && !seen; j++) {
+                    seen = hand.getCode(candidates[j]) == code;
+                }
+                if (!seen) {
+                    candidates[numCandidates++] = i;
+                }
+            }
+        }
+        return Arrays.copyOf(candidates, numCandidates);
+    }
+
+    /**
+     * The sum of the playout results and the number of playouts of each candidate.
+     */
+    private static final class Result {
+        private final double[] totals;
+        private final int[] counts;
+
+        private Result(int numCandidates) {
+            totals = new double[numCandidates];
+            counts = new int[numCandidates];
+        }
+
+        private void add(Result other) {
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += other.totals[i];
+                counts[i] += other.counts[i];
+            }
+        }
+    }
+
+    /**
+     * Plays the first move it is given, then plays like the playout policy.
+     */
+    private static final class FirstMove implements AIStrategy {
+        private final int index;
+        private boolean played;
+
+        private FirstMove(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int chooseCard(Hand hand, Card.Colour currentColour, Card.Rank currentRank, boolean side) {
+            if (!played) {
+                played = true;
+                return index;
+            }
+            return PLAYOUT_POLICY.chooseCard(hand, currentColour, currentRank, side);
+        }
+
+        @Override
+        public Card.Colour chooseColour(Hand hand, boolean side) {
+            return PLAYOUT_POLICY.chooseColour(hand, side);
+        }
+    }
+
+    /**
+     * What the bot knows about the game when it picks its card, read once on the calling thread so the workers
+     * never touch the real game.
+     */
+    private static final class Search {
+        private final int[] candidates;
+        private final UnoFlipModel game;        // a fork of the game, only ever forked again
+        private final int seat;                 // the bot's seat
+        private final ArrayList<Player> players;
+        private final Card[] unknown;           // the cards the bot cannot see
+        private final List<Card> discard;
+        private final List<Card> otherInPlay;   // cards in play that are not in a hand
+
+        private Search(UnoFlipModel game, int[] candidates) {
+            this.candidates = candidates;
+            this.game = game.fork();
+            this.seat = game.getCurrentTurn();
+            this.players = this.game.getPlayers();
+
+            Deck deck = this.game.getDeck();
+            List<Card> unknown = new ArrayList<>(deck.getDeck());
+            ArrayList<Card> otherInPlay = new ArrayList<>(deck.getInPlay());
+            for (int s = 0; s < players.size(); s++) {
+                for (Card card : players.get(s).getHand().getCards()) {
+                    otherInPlay.remove(card);
+                    if (s != seat) {
+                        unknown.add(card);
+                    }
+                }
+            }
+            this.unknown = unknown.toArray(new Card[0]);
+            this.discard = new ArrayList<>(deck.getDiscard());
+            this.otherInPlay = otherInPlay;
+        }
+
+        /**
+         * Runs playouts, going through the candidates in turn, until the deadline or the number of playouts is
+         * reached. Every candidate gets at least one playout if the number of playouts allows it.
+         * @param deadline The System.nanoTime() to stop at
+         * @param maxPlayouts The most playouts to run
+         * @param first The candidate to start with
+         * @param seed The seed of the deals and shuffles
+         * @return the results of the playouts
+         */
+        private Result run(long deadline, int maxPlayouts, int first, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            Result result = new Result(candidates.length);
+            int c = first % candidates.length;
+            for (int n = 0; n < maxPlayouts && (n < candidates.length || System.nanoTime() < deadline); n++) {
+                result.totals[c] += playout(candidates[c], random);
+                result.counts[c]++;
+                c = (c + 1) % candidates.length;
+            }
+            return result;
+        }
+
+        /**
+         * Deals the unknown cards at random, plays a card and finishes the game.
+         * @param index The index of the card the bot plays
+         * @param random The generator of the deal and of the game's shuffles
+         * @return the bot's result
+         */
+        private double playout(int index, SplittableRandom random) {
+            Card[] deal = unknown.clone();
+            for (int i = deal.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Card card = deal[i];
+                deal[i] = deal[j];
+                deal[j] = card;
+            }
+
+            ArrayList<Card> inPlay = new ArrayList<>(otherInPlay);
+            ArrayList<Player> dealt = new ArrayList<>(players.size());
+            int next = 0;
+            for (int s = 0; s < players.size(); s++) {
+                Player player = players.get(s);
+                AI ai = new AI(player.getName(), s == seat ? new FirstMove(index) : PLAYOUT_POLICY);
+                ai.setPlayerScore(player.getPlayerScore());
+                if (s == seat) {
+                    for (Card card : player.getHand().getCards()) {
+                        ai.addCardToHand(card);
+                    }
+                } else {
+                    for (int i = 0; i < player.getHandSize(); i++) {
+                        ai.addCardToHand(deal[next++]);
+                    }
+                }
+                inPlay.addAll(ai.getHand().getCards());
+                dealt.add(ai);
+            }
+
+            Deck deck = new Deck(random);
+            deck.setDeck(Arrays.asList(deal).subList(next, deal.length));
+            deck.setDiscard(discard);
+            deck.setInPlay(inPlay);
+
+            UnoFlipModel model = game.fork(random, deck, dealt);
+            try {
+                model.autoPlayAITurn();
+                if (!model.isWinner()) {
+                    model.nextTurn();
+                    UnoFlipSimulation.playToCompletion(model);
+                }
+            } catch (EmptyStackException e) {
+                // every card is held by the players, the game cannot continue
+            }
+
+            if (model.isWinner() && model.getCurrentTurn() == seat) {
+                return model.getCurrentPlayer().getPlayerScore() - players.get(seat).getPlayerScore();
+            }
+            return -model.getPlayers().get(seat).getHandScore(model.getCardSide());
+        }
+
+        /**
+         * Returns the candidate with the best average result, the lowest index on ties.
+         * @param result The results of the playouts
+         * @return the index of the card to play
+         */
+        private int best(Result result) {
+            int best = 0;
+            double bestMean = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < candidates.length; c++) {
+                if (result.counts[c] > 0 && result.totals[c] / result.counts[c] > bestMean) {
+                    best = c;
+                    bestMean = result.totals[c] / result.counts[c];
+                }
+            }
+            return candidates[best];
+        }
+    }
+}
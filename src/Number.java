@@ -18,7 +18,7 @@ public class Number extends TurnSequence{
     @Override
     public void executeSequence(Card card) {
         unoFlipModel.setTopCard(card);
-        unoFlipModel.setCurrentColour(card.getColour());
-        unoFlipModel.setCurrentRank(card.getRank());
+        unoFlipModel.setCurrentColour(card.getColour(unoFlipModel.getCardSide()));
+        unoFlipModel.setCurrentRank(card.getRank(unoFlipModel.getCardSide()));
     }
 }
@@ -1,4 +1,6 @@
 import javax.swing.text.html.StyleSheet;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 
 /**
@@ -29,6 +31,24 @@ public class Player {
 
     }
 
+    /**
+     * Copy constructor for the Player class, the copy's hand can be changed without affecting the original
+     * @param other - the player to copy
+     */
+    protected Player(Player other){
+        this.name = other.name;
+        this.hand = new Hand(other.hand);
+        this.playerScore = other.playerScore;
+    }
+
+    /**
+     * Method copy returns an independent copy of the player, keeping their name, score and hand
+     * @return - the copy of the player
+     */
+    public Player copy(){
+        return new Player(this);
+    }
+
     /**
      * Method getHandSize prints the current hand size of the player
      * @return - the number of cards in the player's hand
@@ -94,6 +114,15 @@ public class Player {
         return this.hand.toString();
     }
 
+    /**
+     * Returns the player's hand of cards on the given side.
+     * @param side - the side that is face up (Card.LIGHT or Card.DARK)
+     * @return - a String containing the player's hand
+     */
+    public String toString(boolean side){
+        return this.hand.toString(side);
+    }
+
     /**
      * Method getName returns the name of the player
      * @return - the name of the player
@@ -105,10 +134,11 @@ public class Player {
     /**
      * Method colourInHand shows whether a specilc colour of cards appears in the player's hand
      * @param colour - the colour that is being checking for in the hand
+     * @param side - the side that is face up (Card.LIGHT or Card.DARK)
      * @return - a boolean describing whether the colour appears in the player's hand
      */
-    public boolean colourInHand(Card.Colour colour){
-        return this.hand.colourInHand(colour);
+    public boolean colourInHand(Card.Colour colour, boolean side){
+        return this.hand.colourInHand(colour, side);
     }
 
     /**
@@ -123,10 +153,11 @@ public class Player {
 
     /**
      * Method getHandScore returns the amount of points a player's hand is worth
+     * @param side - the side that is face up (Card.LIGHT or Card.DARK)
      * @return the value of the player's hand
      */
-    public int getHandScore(){
-        return hand.getScore();
+    public int getHandScore(boolean side){
+        return hand.getScore(side);
     }
 
 
@@ -157,21 +188,32 @@ public class Player {
     /**
      * Returns an XML representation of the Player as a String.
      * @param numTabs The number of tabs the main opening tag should start with.
+     * @param side The side that is face up (Card.LIGHT or Card.DARK).
      * @return XML representation of the Player
      */
-    public String toXML(int numTabs) {
-        String baseTabLength = "";    // any tabs within the return String will append to this base tab length
-
-        // add tabs to the base tab length
-        for (int i = 0; i < numTabs; i++) {
-            baseTabLength += "\t";
-        }
+    public String toXML(int numTabs, boolean side) {
+        return XMLFormat.toString(out -> writeXML(out, numTabs, side));
+    }
 
-        return baseTabLength + "<Player>\n" +
-                getHand().toXML(numTabs + 1) + "\n"+ baseTabLength+"\t" +
-                "<name>" + getName() + "</name>\n" + baseTabLength + "\t" +
-                "<playerScore>" + getPlayerScore() + "</playerScore>\n" + baseTabLength +
-                "</Player>";
+    /**
+     * Writes the XML representation of the Player (see toXML) to a Writer.
+     * @param out The Writer to write to.
+     * @param numTabs The number of tabs the main opening tag should start with.
+     * @param side The side that is face up (Card.LIGHT or Card.DARK).
+     * @throws IOException if the Writer fails.
+     */
+    public void writeXML(Writer out, int numTabs, boolean side) throws IOException {
+        String baseTabLength = XMLFormat.tabs(numTabs);
+        String nestedTabLength = XMLFormat.tabs(numTabs + 1);
+
+        out.write(baseTabLength);
+        out.write("<Player>\n");
+        getHand().writeXML(out, numTabs + 1, side);
+        out.write('\n');
+        XMLFormat.writeElement(out, nestedTabLength, "name", getName());
+        XMLFormat.writeElement(out, nestedTabLength, "playerScore", getPlayerScore());
+        out.write(baseTabLength);
+        out.write("</Player>");
     }
 
     /**
@@ -0,0 +1,89 @@
+/**
+ * SnapshotHistory is a bounded stack of ModelSnapshots kept in a ring buffer. Once it is full, pushing a new snapshot
+ * drops the oldest one, so the memory used by undo/redo stays fixed however long the game runs. The ring buffer is
+ * only allocated by the first push, so a history that is never used (ex. that of a forked game) costs next to nothing.
+ *
+ * Date: 2026-10-17
+ */
+public class SnapshotHistory {
+    private final int capacity;
+    private ModelSnapshot[] snapshots;  // null until the first push
+    private int oldest;     // index of the oldest snapshot in the ring buffer
+    private int size;
+
+    /**
+     * Creates an empty history.
+     * @param capacity The maximum number of snapshots to keep
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    public SnapshotHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.oldest = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Pushes a snapshot on top of the history, dropping the oldest snapshot if the history is full.
+     * @param snapshot The snapshot to push
+     */
+    public void push(ModelSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new NullPointerException();
+        }
+        if (snapshots == null) {
+            snapshots = new ModelSnapshot[capacity];
+        }
+        if (size == snapshots.length) {
+            snapshots[oldest] = snapshot;  // overwrite the oldest snapshot, the next one becomes the oldest
+            oldest = (oldest + 1) % snapshots.length;
+        } else {
+            snapshots[(oldest + size) % snapshots.length] = snapshot;
+            size++;
+        }
+    }
+
+    /**
+     * Removes and returns the most recent snapshot.
+     * @return The most recent snapshot
+     * @throws IllegalStateException if the history is empty
+     */
+    public ModelSnapshot pop() {
+        if (size == 0) {
+            throw new IllegalStateException("There is no snapshot in the history.");
+        }
+        size--;
+        int newest = (oldest + size) % snapshots.length;
+        ModelSnapshot snapshot = snapshots[newest];
+        snapshots[newest] = null;
+        return snapshot;
+    }
+
+    /**
+     * Removes every snapshot from the history.
+     */
+    public void clear() {
+        while (size > 0) {
+            pop();
+        }
+        oldest = 0;
+    }
+
+    /**
+     * Returns the number of snapshots in the history.
+     * @return the number of snapshots
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns if the history has no snapshots.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
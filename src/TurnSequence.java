@@ -1,10 +1,11 @@
 /**
  * TurnSequence is an abstract class to be extended in order to handle game sequences based on the card played.
+ * Each TurnSequence is bound to the game it was created for, so the same instance is reused for every turn of that game.
  * @author Hubert Dang
  * Date: 2023-10-22
  */
 public abstract class TurnSequence {
-    protected static UnoFlipModel unoFlipModel;
+    protected final UnoFlipModel unoFlipModel;
 
     public TurnSequence(UnoFlipModel unoFlipModel){
         this.unoFlipModel = unoFlipModel;
@@ -22,17 +23,11 @@ public abstract class TurnSequence {
      * @return true if the card is valid, false otherwise
      */
     public boolean isValid(Card card) {
-        if (card.isWild()) {
+        int code = card.getCode();
+        if (Card.isWild(code)) {
             return true;
         }
-        return unoFlipModel.getCurrentRank() == card.getRank() || unoFlipModel.getCurrentColour() == card.getColour();
-    }
-
-    /**
-     * Sets the model with the passed model
-     * @param model
-     */
-    public static void setUnoFlipModel(UnoFlipModel model){
-        unoFlipModel = model;
+        return Card.matches(code, unoFlipModel.getCardSide(), Card.ordinalOf(unoFlipModel.getCurrentRank()),
+                Card.ordinalOf(unoFlipModel.getCurrentColour()));
     }
 }
@@ -2,6 +2,7 @@
 import javax.swing.*;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Objects;
@@ -15,6 +16,7 @@ import java.util.Objects;
 
 public class UnoFlipController implements ActionListener {
     private UnoFlipModel model;
+    private boolean fastForward;    // true if consecutive AI turns are played without waiting for Next
 
     /**
      * Constructs a UnoFlipController with the specified UnoFlipModel.
@@ -152,14 +154,18 @@ public class UnoFlipController implements ActionListener {
                 break;
 
             case UnoFlipViewFrame.UNDO_CMD:
-                this.model.undoRedoTurn();
-                UnoFlipViewFrame.redo.setEnabled(true);
-                UnoFlipViewFrame.undo.setEnabled(false);
+                if (this.model.canUndo()) {
+                    this.model.undoTurn();
+                }
+                UnoFlipViewFrame.redo.setEnabled(this.model.canRedo());
+                UnoFlipViewFrame.undo.setEnabled(this.model.canUndo());
                 break;
             case UnoFlipViewFrame.REDO_CMD:
-                this.model.undoRedoTurn();
-                UnoFlipViewFrame.redo.setEnabled(false);
-                UnoFlipViewFrame.undo.setEnabled(true);
+                if (this.model.canRedo()) {
+                    this.model.redoTurn();
+                }
+                UnoFlipViewFrame.redo.setEnabled(this.model.canRedo());
+                UnoFlipViewFrame.undo.setEnabled(this.model.canUndo());
                 break;
             case UnoFlipViewFrame.REPLAY_CMD:
                 this.model.restartGame();
@@ -169,8 +175,18 @@ public class UnoFlipController implements ActionListener {
                 JOptionPane.showMessageDialog(null, "Current game saved...", "Game Save", JOptionPane.INFORMATION_MESSAGE);
                 break;
             case UnoFlipViewFrame.LOAD_CMD:
-                this.model.loadGame();
-                JOptionPane.showMessageDialog(null, "Loaded saved game...", "Game loaded", JOptionPane.INFORMATION_MESSAGE);
+                try {
+                    this.model.loadGame();
+                    JOptionPane.showMessageDialog(null, "Loaded saved game...", "Game loaded", JOptionPane.INFORMATION_MESSAGE);
+                } catch (UncheckedIOException err) {
+                    // no saved game, or a file that cannot be read, the current game goes on
+                    JOptionPane.showMessageDialog(null, "Could not load the saved game: " + err.getCause().getMessage(),
+                            "Game not loaded", JOptionPane.ERROR_MESSAGE);
+                }
+                break;
+
+            case UnoFlipViewFrame.FAST_FORWARD_CMD:
+                this.fastForward = ((AbstractButton) e.getSource()).isSelected();
                 break;
 
             // User selects the next turn button to go to the next turn
@@ -178,7 +194,13 @@ public class UnoFlipController implements ActionListener {
                 UnoFlipViewFrame.redo.setEnabled(false);
                 UnoFlipViewFrame.undo.setEnabled(false);
                 this.model.nextTurn();
-                if (this.model.getPlayers().get(this.model.getCurrentTurn()) instanceof AI) {
+                if (this.fastForward && this.model.isCurrentPlayerAI()) {
+                    // play every AI turn up to the next human player, who may have to answer a challenge first
+                    this.model.fastForwardAITurns();
+                    if (this.model.isChallengePending()) {
+                        offerChallenge();
+                    }
+                } else if (this.model.getPlayers().get(this.model.getCurrentTurn()) instanceof AI) {
                     this.model.playAITurn();
 
                     if(!(this.model.isWinner())) {
@@ -190,43 +212,21 @@ public class UnoFlipController implements ActionListener {
                             this.model.setCurrentColour(((AI) this.model.getPlayers().get(this.model.getCurrentTurn())).wildPickColour(this.model.getCardSide()));
 
                             // If top card is wild draw 2 or wild draw colour, prompt for challenges
-                            if (this.model.getTopCard().getRank() == Card.Rank.WILD_DRAW_2 || this.model.getTopCard().getRank() == Card.Rank.WILD_DRAW_COLOUR) {
+                            if (this.model.getTopCard().getRank(this.model.getCardSide()) == Card.Rank.WILD_DRAW_2 || this.model.getTopCard().getRank(this.model.getCardSide()) == Card.Rank.WILD_DRAW_COLOUR) {
 
                                 // If next player is not an AI and is human prompt for challenge
                                 if (!this.model.isNextPlayerAI()) {
-                                    result = JOptionPane.showConfirmDialog(null, "Do you want to challenge?", "Confirmation", JOptionPane.YES_NO_OPTION);
-
-                                    boolean challenge = result == JOptionPane.YES_OPTION;
-
-                                    if (challenge) {
-                                        boolean guilty = model.challenge(); // returns true if guilty, false if innocent
-                                        if (guilty) {
-                                            model.guiltyConsequences();
-                                        } else {
-                                            model.innocentConsequences();
-                                        }
-                                    } else {
-                                        // standard flow of the game if no challenge
-                                        if (model.getTopCard().getRank() == Card.Rank.WILD_DRAW_2) {
-                                            // wild draw 2 flow of events
-                                            model.drawNCards(2, model.getNextTurn());
-                                            model.setStatus(UnoFlipModel.STATUS_DONE);
-                                        } else {
-                                            // wild draw colour flow of events
-                                            model.drawCardUntilColour(model.getCurrentColour(), model.getNextTurn());
-                                            model.setStatus(UnoFlipModel.STATUS_DONE);
-                                        }
-                                    }
+                                    offerChallenge();
                                 } else {
                                     // standard flow of the game if no challenge
-                                    if (model.getTopCard().getRank() == Card.Rank.WILD_DRAW_2) {
+                                    if (model.getTopCard().getRank(model.getCardSide()) == Card.Rank.WILD_DRAW_2) {
                                         // wild draw 2 flow of events
                                         model.drawNCards(2, model.getNextTurn());
-                                        model.setStatus(UnoFlipModel.STATUS_DONE);
+                                        model.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
                                     } else {
                                         // wild draw colour flow of events
                                         model.drawCardUntilColour(model.getCurrentColour(), model.getNextTurn());
-                                        model.setStatus(UnoFlipModel.STATUS_DONE);
+                                        model.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
                                     }
                                 }
                             }
@@ -285,42 +285,20 @@ public class UnoFlipController implements ActionListener {
                                 }
                             }
 
-                            if (this.model.getTopCard().getRank() == Card.Rank.WILD_DRAW_2 || this.model.getTopCard().getRank() == Card.Rank.WILD_DRAW_COLOUR) {
+                            if (this.model.getTopCard().getRank(this.model.getCardSide()) == Card.Rank.WILD_DRAW_2 || this.model.getTopCard().getRank(this.model.getCardSide()) == Card.Rank.WILD_DRAW_COLOUR) {
                                 if (this.model.isNextPlayerAI()) {
                                     // standard flow of the game if no challenge
-                                    if (model.getTopCard().getRank() == Card.Rank.WILD_DRAW_2) {
+                                    if (model.getTopCard().getRank(model.getCardSide()) == Card.Rank.WILD_DRAW_2) {
                                         // wild draw 2 flow of events
                                         model.drawNCards(2, model.getNextTurn());
-                                        model.setStatus(UnoFlipModel.STATUS_DONE);
+                                        model.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
                                     } else {
                                         // wild draw colour flow of events
                                         model.drawCardUntilColour(model.getCurrentColour(), model.getNextTurn());
-                                        model.setStatus(UnoFlipModel.STATUS_DONE);
+                                        model.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
                                     }
                                 } else {
-                                    result = JOptionPane.showConfirmDialog(null, "Do you want to challenge?", "Confirmation", JOptionPane.YES_NO_OPTION);
-
-                                    boolean challenge = result == JOptionPane.YES_OPTION;
-
-                                    if (challenge) {
-                                        boolean guilty = model.challenge(); // returns true if guilty, false if innocent
-                                        if (guilty) {
-                                            model.guiltyConsequences();
-                                        } else {
-                                            model.innocentConsequences();
-                                        }
-                                    } else {
-                                        // standard flow of the game if no challenge
-                                        if (model.getTopCard().getRank() == Card.Rank.WILD_DRAW_2) {
-                                            // wild draw 2 flow of events
-                                            model.drawNCards(2, model.getNextTurn());
-                                            model.setStatus(UnoFlipModel.STATUS_DONE);
-                                        } else {
-                                            // wild draw colour flow of events
-                                            model.drawCardUntilColour(model.getCurrentColour(), model.getNextTurn());
-                                            model.setStatus(UnoFlipModel.STATUS_DONE);
-                                        }
-                                    }
+                                    offerChallenge();
                                 }
                             }
 
@@ -332,5 +310,34 @@ public class UnoFlipController implements ActionListener {
                 }
         }
     }
-}
 
+    /**
+     * Asks the next player if they want to challenge the wild draw card on top, and applies the result. If they do not
+     * challenge, they take the penalty of the card.
+     */
+    private void offerChallenge() {
+        int result = JOptionPane.showConfirmDialog(null, "Do you want to challenge?", "Confirmation", JOptionPane.YES_NO_OPTION);
+
+        boolean challenge = result == JOptionPane.YES_OPTION;
+
+        if (challenge) {
+            boolean guilty = model.challenge(); // returns true if guilty, false if innocent
+            if (guilty) {
+                model.guiltyConsequences();
+            } else {
+                model.innocentConsequences();
+            }
+        } else {
+            // standard flow of the game if no challenge
+            if (model.getTopCard().getRank(model.getCardSide()) == Card.Rank.WILD_DRAW_2) {
+                // wild draw 2 flow of events
+                model.drawNCards(2, model.getNextTurn());
+                model.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
+            } else {
+                // wild draw colour flow of events
+                model.drawCardUntilColour(model.getCurrentColour(), model.getNextTurn());
+                model.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
+            }
+        }
+    }
+}
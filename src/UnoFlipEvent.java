@@ -1,15 +1,49 @@
 import java.util.ArrayList;
-import java.util.ArrayList;
 import java.util.EventObject;
+import java.util.List;
 
+/**
+ * An update of the state of a game sent by UnoFlipModel to its views. The event carries the cards themselves and the
+ * kind of update as a Status, so views read what they need without building or parsing strings. The hand, the hand
+ * sizes and the score lines are copies taken when the event is created, so an event stays valid after the game moves
+ * on.
+ */
 public class UnoFlipEvent extends EventObject {
+
+    /**
+     * The kind of update an event reports.
+     */
+    public enum Status {
+        STANDARD,               // nothing to report
+        PLAYABLE_CARD,          // the drawn card can be played
+        CARD_DRAWN,
+        INVALID_CARD,           // the card placed does not match the top card
+        SKIPPING_TURN,          // the player tried to end their turn without playing or drawing
+        TURN_FINISHED,
+        CHALLENGE,              // the next player may challenge the wild draw card
+        CHALLENGE_INNOCENT,
+        CHALLENGE_GUILTY,
+        AI_DREW_CARD,
+        AI_PLAYED_CARD,
+        COLOUR_SELECTED,        // a colour has been picked after a wild card, see getCurrColour
+        DONE,                   // a wild draw card has been resolved
+        FAST_FORWARDED,         // several AI turns were played in a row, see UnoFlipModel.fastForwardAITurns
+        WINNER,                 // the current player has won the round
+        OTHER
+    }
+
+    private final Status status;
+    private final String message;               // text of the status to show to the players
     private final String currPlayerName;
-    private final String topCard;                 // toString() of the top card
-    private final String currHand;                // toString() of the current hand
-    private final String status;              // toString() of the current colour
+    private final Card topCard;
+    private final List<Card> currHand;
+    private final boolean cardSide;             // side of the cards that is face up
     private final boolean turnFinished;
     private final boolean isAI;
     private final Card.Colour currColour;
+    private final int[] handSizes;              // hand size of each player, by seat
+    private final int[] handSizeChanges;        // change of each hand size since the previous event
+    private final int turnsPlayed;              // AI turns played, for FAST_FORWARDED events
 
     private final ArrayList<String> playersScores;
 
@@ -17,18 +51,99 @@ public class UnoFlipEvent extends EventObject {
      * Constructs a Uno Flip! Event.
      *
      * @param model the object on which the Event initially occurred
+     * @param status the kind of update
+     * @param message the text of the status
+     * @param currPlayerName the name of the current player
+     * @param topCard the top card
+     * @param currHand the cards of the current player, copied by the event
+     * @param cardSide the side of the cards that is face up (Card.LIGHT or Card.DARK)
+     * @param isAI true if the current player is an AI
+     * @param turnFinished true if the current player's turn is finished
+     * @param currColour the current colour of the game
+     * @param handSizes the hand size of each player, by seat
+     * @param handSizeChanges the change of each hand size since the previous event
+     * @param turnsPlayed the number of AI turns played, for FAST_FORWARDED events, otherwise 0
+     * @param playersScores the score lines of the players, copied by the event
      * @throws IllegalArgumentException if source is null
      */
-    public UnoFlipEvent(UnoFlipModel model, String currPlayerName, String topCard, String currHand, String status, boolean isAI, boolean turnFinished, Card.Colour currColour, ArrayList<String> playersScores) {
+    public UnoFlipEvent(UnoFlipModel model, Status status, String message, String currPlayerName, Card topCard,
+                        List<Card> currHand, boolean cardSide, boolean isAI, boolean turnFinished,
+                        Card.Colour currColour, int[] handSizes, int[] handSizeChanges, int turnsPlayed,
+                        ArrayList<String> playersScores) {
         super(model);
+        this.status = status;
+        this.message = message;
         this.currPlayerName = currPlayerName;
         this.topCard = topCard;
-        this.currHand = currHand;
-        this.status = status;
+        this.currHand = List.copyOf(currHand);
+        this.cardSide = cardSide;
         this.turnFinished = turnFinished;
         this.isAI = isAI;
         this.currColour = currColour;
-        this.playersScores = playersScores;
+        this.handSizes = handSizes;
+        this.handSizeChanges = handSizeChanges;
+        this.turnsPlayed = turnsPlayed;
+        this.playersScores = new ArrayList<>(playersScores);
+    }
+
+    /**
+     * Constructs a copy of an event with other hand size changes.
+     *
+     * @param other the event to copy
+     * @param handSizeChanges the change of each hand size
+     */
+    private UnoFlipEvent(UnoFlipEvent other, int[] handSizeChanges) {
+        super(other.getSource());
+        this.status = other.status;
+        this.message = other.message;
+        this.currPlayerName = other.currPlayerName;
+        this.topCard = other.topCard;
+        this.currHand = other.currHand;
+        this.cardSide = other.cardSide;
+        this.turnFinished = other.turnFinished;
+        this.isAI = other.isAI;
+        this.currColour = other.currColour;
+        this.handSizes = other.handSizes;
+        this.handSizeChanges = handSizeChanges;
+        this.turnsPlayed = other.turnsPlayed;
+        this.playersScores = other.playersScores;
+    }
+
+    /**
+     * Returns a copy of this event that also reports the hand size changes of an earlier event it replaces, so a view
+     * that never receives the earlier event still sees every change since the event before it. The event itself is
+     * not changed, it may have been sent to other views.
+     *
+     * @param earlier the event replaced by this one
+     * @return the event with the changes of both, or this event if the two do not have the same number of players
+     */
+    UnoFlipEvent replacing(UnoFlipEvent earlier) {
+        if (earlier.handSizeChanges.length != handSizeChanges.length) {
+            return this;    // the players changed, this event's changes are already from empty hands
+        }
+        int[] changes = new int[handSizeChanges.length];
+        for (int i = 0; i < changes.length; i++) {
+            changes[i] = earlier.handSizeChanges[i] + handSizeChanges[i];
+        }
+        return new UnoFlipEvent(this, changes);
+    }
+
+    /**
+     * Gets the kind of update of the event.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the text of the status, e.g. the name of the winner or of the card the AI played.
+     *
+     * @return the text of the status
+     */
+    public String getMessage() {
+        return message;
     }
 
     /**
@@ -41,36 +156,36 @@ public class UnoFlipEvent extends EventObject {
     }
 
     /**
-     * Gets the string representation of the top card of the event.
+     * Gets the top card of the event.
      *
-     * @return the string representation of the top card
+     * @return the top card
      */
-    public String getTopCard() {
+    public Card getTopCard() {
         return topCard;
     }
 
     /**
-     * Gets the string representation of the current hand of the event.
+     * Gets the cards of the current player.
      *
-     * @return the string representation of the current hand
+     * @return an unmodifiable list of the cards in the current hand
      */
-    public String getCurrHand() {
+    public List<Card> getCurrHand() {
         return currHand;
     }
 
     /**
-     * Gets the string representation of the current colour of the event.
+     * Gets the side of the cards that is face up.
      *
-     * @return the string representation of the current colour
+     * @return Card.LIGHT or Card.DARK
      */
-    public String getStatus() {
-        return status;
+    public boolean getCardSide() {
+        return cardSide;
     }
 
     /**
-     * Gets the boolean if the top card is wild or not.
+     * Gets the boolean if the current player's turn is finished or not.
      *
-     * @return true if wild, otherwise false
+     * @return true if the turn is finished, otherwise false
      */
     public boolean getTurnFinished() {
         return turnFinished;
@@ -95,6 +210,45 @@ public class UnoFlipEvent extends EventObject {
 
     }
 
+    /**
+     * Gets the number of cards in a player's hand.
+     *
+     * @param seat The index of the player
+     * @return the size of the player's hand
+     */
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Gets how many cards a player gained (positive) or lost (negative) since the previous event sent by the model.
+     * For the first event, the change is from an empty hand.
+     *
+     * @param seat The index of the player
+     * @return the change of the size of the player's hand
+     */
+    public int getHandSizeChange(int seat) {
+        return handSizeChanges[seat];
+    }
+
+    /**
+     * Gets the number of players in the event.
+     *
+     * @return the number of players
+     */
+    public int getNumPlayers() {
+        return handSizes.length;
+    }
+
+    /**
+     * Gets the number of AI turns played in a row, reported by FAST_FORWARDED events.
+     *
+     * @return the number of AI turns played, 0 for other events
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
     /**
      * Gets the arrayList of playerScores
      * @return arrayList of playerScores
@@ -104,4 +258,4 @@ public class UnoFlipEvent extends EventObject {
     }
 
 
-}
\ No newline at end of file
+}
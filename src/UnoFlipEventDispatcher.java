@@ -0,0 +1,93 @@
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * UnoFlipEventDispatcher defers the delivery of a model's events to a view: the events are handed to the view's own
+ * executor (e.g. SwingUtilities::invokeLater) instead of being delivered while the model is still changing the game.
+ * Events sent while a delivery is waiting to run are coalesced: the view only receives the most recent one, so a burst
+ * of updates within one turn, or a stretch of AI turns, is rendered once. The hand size changes of the dropped events
+ * are added to the event that replaces them, and WINNER events are never dropped.
+ *
+ * The dispatcher does not make the model run on another thread. A Swing controller plays the game on the event
+ * dispatch thread, so the delivery runs on that same thread once the current action is done: rendering is deferred and
+ * coalesced, not concurrent with the game.
+ *
+ * The dispatcher is registered with UnoFlipModel.addUnoFlipView(view, executor). Views added with
+ * addUnoFlipView(view) are still called directly by the model.
+ *
+ * Date: 2026-10-17
+ */
+public class UnoFlipEventDispatcher implements UnoFlipView {
+    private final UnoFlipView view;
+    private final Executor executor;
+    private final Object lock = new Object();
+    private ArrayList<UnoFlipEvent> pending = new ArrayList<>();    // events waiting for the next delivery
+    private boolean scheduled;      // true if a delivery has been handed to the executor and has not run yet
+
+    /**
+     * Constructs a dispatcher.
+     * @param view The view to deliver the events to
+     * @param executor The executor the view is updated on
+     */
+    public UnoFlipEventDispatcher(UnoFlipView view, Executor executor) {
+        if (view == null || executor == null) {
+            throw new IllegalArgumentException("View and executor must not be null");
+        }
+        this.view = view;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the view the events are delivered to.
+     * @return the view
+     */
+    public UnoFlipView getView() {
+        return view;
+    }
+
+    /**
+     * Queues an event for the view, replacing the queued event it follows unless that one reports a winner, and
+     * schedules a delivery if none is waiting. A replacing event also reports the hand size changes of the event it
+     * replaces. Can be called from any thread.
+     * @param e The event to deliver
+     */
+    @Override
+    public void handleUnoFlipStatusUpdate(UnoFlipEvent e) {
+        boolean schedule;
+        synchronized (lock) {
+            int last = pending.size() - 1;
+            if (last >= 0 && pending.get(last).getStatus() != UnoFlipEvent.Status.WINNER) {
+                e = e.replacing(pending.remove(last));  // superseded by the new event
+            }
+            pending.add(e);
+            schedule = !scheduled;
+            scheduled = true;
+        }
+
+        if (schedule) {
+            try {
+                executor.execute(this::deliver);
+            } catch (RuntimeException err) {
+                synchronized (lock) {
+                    scheduled = false;  // let the next event try again
+                }
+                throw err;
+            }
+        }
+    }
+
+    /**
+     * Delivers the queued events to the view, in the order they were sent. Runs on the executor.
+     */
+    private void deliver() {
+        ArrayList<UnoFlipEvent> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new ArrayList<>();
+            scheduled = false;
+        }
+        for (UnoFlipEvent e : batch) {
+            view.handleUnoFlipStatusUpdate(e);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.sql.SQLOutput;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
 
 /**
  * The Game class represent a game of Uno Flip. Uno Flip can be played with 2-4 players.
@@ -23,20 +29,35 @@ public class UnoFlipModel {
     private int currentTurn; // 0-indexed (ex. 0 is player 1, 1 is player 2, 2 is player 3, 3 is player 4)
     private int nextPlayerIndex;
     private String status; //indicate the status for which the view will update to
+    private UnoFlipEvent.Status statusType; // kind of update the status reports
+    private int turnsPlayed;    // AI turns played by the last fast-forward, reported with FAST_FORWARDED
     private Deck deck;
     private Card.Colour currentColour;
     private Card.Colour previousColour;
     private Card.Rank currentRank;
     private Card.Rank previousRank;
     private Card topCard;
+    private boolean cardSide; // side of the cards that is face up in this game (Card.LIGHT or Card.DARK)
     private List<UnoFlipView> views;
     private ArrayList<TurnSequence> turnSeqs;
     private ArrayList<Player> players;
     private ArrayList<String> playerScores;
     private Boolean isWinner;
+    private SnapshotHistory undoHistory;    // states to go back to, the most recent is on top
+    private SnapshotHistory redoHistory;    // states that were undone, the most recently undone is on top
+    private final RandomGenerator random;  // shuffles every deck of this game, null for ThreadLocalRandom
+    private ModelGameParser xmlParser;  // created by the first XML import and reused by the next ones
+    private boolean fastForwarding;     // true while fastForwardAITurns is playing, views are not notified
+    private boolean challengePending;   // true if the last fast-forward stopped on a wild draw card to challenge
+    private int[] notifiedHandSizes;    // hand sizes sent with the last event, null before the first event
 
     public static final int NUM_STARTING_CARDS = 7;
     public static final int DRAW_ONE_BUTTON = -1;
+    public static final int UNDO_HISTORY_SIZE = 32; // number of saved states that can be undone
+    public static final int MAX_FAST_FORWARD_TURNS = 1000; // stops fast-forwarding a game that may never end
+    private static final List<UnoFlipView> NO_VIEWS = List.of();   // the views of a fork, until one is added
+    // ranks that may be held when playing a wild draw 2 without making the play challengeable
+    private static final Card.Rank[] WILD_DRAW_TWO_EXEMPT_RANKS = {Card.Rank.REVERSE, Card.Rank.SKIP, Card.Rank.DRAW_ONE};
 
     //Constants used for Turn sequence
     public static final int TURN_SEQ_SELF_DRAW_ONE = 18;
@@ -57,17 +78,23 @@ public class UnoFlipModel {
     public static final String STATUS_PLAYER_SKIPPING_TURN = "CANNOT SKIP A TURN, EITHER PLAY A CARD FROM THE HAND OR DRAW FROM THE DECK";
     public static final String STATUS_TURN_FINISHED = "YOUR TURN IS FINISHED, PRESS NEXT PLAYER";
     public static final String STATUS_DONE = "done";
+    public static final String STATUS_WINNER = "WINNER:";
     public static final String AI_DRAW_CARD = "\nAI HAS DRAWN CARD";
     public static final String AI_PLAYED_CARD = "\nAI HAS PLAYED CARD: ";
+    public static final String AI_FAST_FORWARDED = "\nAI TURNS PLAYED: ";
     public static final String CURRENT_STATE_MODEL_DATA = "CurrentStateModelData.xml";
     public static final String CURRENT_STATE_MODEL_DECK = "CurrentStateModelDeck.xml";
     public static final String CURRENT_STATE_MODEL_PLAYERS = "CurrentStateModelPlayers.xml";
-    public static final String PAST_STATE_MODEL_DATA = "PastStateModelData.xml";
-    public static final String PAST_STATE_MODEL_DECK = "PastStateModelDeck.xml";
-    public static final String PAST_STATE_MODEL_PLAYERS = "PastStateModelPlayers.xml";
-    public static final String TEMP_STATE_MODEL_DATA = "TempStateModelData.xml";
-    public static final String TEMP_STATE_MODEL_DECK = "TempStateModelDeck.xml";
-    public static final String TEMP_STATE_MODEL_PLAYERS = "TempStateModelPlayers.xml";
+    public static final String CURRENT_STATE_MODEL = "CurrentStateModel.xml";
+    public static final String CURRENT_STATE_MODEL_BINARY = "CurrentStateModel.bin";
+
+    /**
+     * The file formats a game can be saved in.
+     */
+    public enum SaveFormat {
+        XML,    // human-readable, a single CURRENT_STATE_MODEL file
+        BINARY  // compact, a single CURRENT_STATE_MODEL_BINARY file (see ModelBinaryCodec)
+    }
     public static final String XML_MODEL_DATA_FLAG = "ModelData";
     public static final String XML_MODEL_DECK_FLAG = "ModelDeck";
     public static final String XML_MODEL_PLAYERS_FLAG = "ModelPlayers";
@@ -76,28 +103,133 @@ public class UnoFlipModel {
      * Constructs a new game of Uno Flip by initializing fields with default settings.
      */
     public UnoFlipModel(){
+        this((RandomGenerator) null);
+    }
+
+    /**
+     * Constructs a new game of Uno Flip whose deck is shuffled from a seed. Two games with the same seed and the
+     * same moves play out the same way.
+     * @param seed The seed of the game
+     */
+    public UnoFlipModel(long seed){
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new game of Uno Flip whose deck is shuffled with the given generator.
+     * @param random The generator to shuffle with, owned by this game, null to use the calling thread's
+     *               ThreadLocalRandom
+     */
+    public UnoFlipModel(RandomGenerator random){
+        this.random = random;
         this.players = new ArrayList<Player>();
         this.turnSeqs = new ArrayList<TurnSequence>(); // list of game sequences based on the different card ranks played
         this.views = new ArrayList<UnoFlipView>();
         this.playerScores = new ArrayList<String>();
+        this.undoHistory = new SnapshotHistory(UNDO_HISTORY_SIZE);
+        this.redoHistory = new SnapshotHistory(UNDO_HISTORY_SIZE);
         this.turnDirection = true; //initialize to clockwise
         this.skipEveryone = false;
         this.currentTurn = 0;
         this.nextPlayerIndex = currentTurn +1;
-        this.deck = new Deck();
+        this.deck = new Deck(random);
         this.deck.initStartingDeck(); // need to initialize with starting cards
+        this.cardSide = Card.LIGHT;
         this.currentColour = Card.Colour.NULL;
         this.currentRank = Card.Rank.NULL;
         this.numPlayers = 0;
         this.chosenCardIndex = -2; // initialize to -2 to indicate that it has not been set to a valid index yet
         this.skipTurn = false;
         this.turnFinished = false;    //initialize false to ensure first player can play/draw a card
-        this.status = STATUS_STANDARD;
+        setStatus(UnoFlipEvent.Status.STANDARD, STATUS_STANDARD);
         this.isWinner = false;
+        addTurnSequences();
+    }
+
+    /**
+     * Constructs a fork of a game: an independent copy of its state that can be played on without changing the
+     * original (see fork). Views and undo history are not copied.
+     * @param other The game to fork
+     * @param random The generator the fork shuffles with, null to use the calling thread's ThreadLocalRandom
+     * @param deck The deck of the fork, owned by the fork
+     * @param players The players of the fork, owned by the fork
+     */
+    private UnoFlipModel(UnoFlipModel other, RandomGenerator random, Deck deck, ArrayList<Player> players){
+        this.random = random;
+        this.turnFinished = other.turnFinished;
+        this.skipTurn = other.skipTurn;
+        this.skipEveryone = other.skipEveryone;
+        this.turnDirection = other.turnDirection;
+        this.numPlayers = other.numPlayers;
+        this.chosenCardIndex = other.chosenCardIndex;
+        this.currentTurn = other.currentTurn;
+        this.nextPlayerIndex = other.nextPlayerIndex;
+        this.status = other.status;
+        this.statusType = other.statusType;
+        this.turnsPlayed = other.turnsPlayed;
+        this.deck = deck;
+        this.currentColour = other.currentColour;
+        this.previousColour = other.previousColour;
+        this.currentRank = other.currentRank;
+        this.previousRank = other.previousRank;
+        this.topCard = other.topCard;
+        this.cardSide = other.cardSide;
+        this.views = NO_VIEWS;
+        this.turnSeqs = new ArrayList<TurnSequence>();
+        this.players = players;
+        this.playerScores = new ArrayList<String>(other.playerScores);
+        this.isWinner = other.isWinner;
+        this.undoHistory = new SnapshotHistory(UNDO_HISTORY_SIZE);    // empty, its buffer is made on first use
+        this.redoHistory = new SnapshotHistory(UNDO_HISTORY_SIZE);
+        addTurnSequences();
+    }
 
+    /**
+     * Returns a fork of the game, an independent copy of the current state that shuffles with the calling thread's
+     * ThreadLocalRandom. The fork shares the immutable Card objects with the game and copies only the deck piles,
+     * the players and their hands, so forking takes microseconds and search AIs or "what if" analysis can play on
+     * the fork freely. The fork has no views and no undo history, and is not saved anywhere.
+     * @return the fork
+     */
+    public UnoFlipModel fork(){
+        return fork(null);
+    }
+
+    /**
+     * Returns a fork of the game (see fork()) that shuffles with the given generator.
+     * @param random The generator the fork shuffles with, owned by the fork, null to use the calling thread's
+     *               ThreadLocalRandom
+     * @return the fork
+     */
+    public UnoFlipModel fork(RandomGenerator random){
+        ArrayList<Player> players = new ArrayList<Player>(this.players.size());
+        for (Player p : this.players) {
+            players.add(p.copy());
+        }
+        return new UnoFlipModel(this, random, new Deck(this.deck, random), players);
+    }
+
+    /**
+     * Returns a fork of the game (see fork()) that plays with the given deck and players instead of copies of the
+     * game's, for callers that deal the cards themselves (ex. MonteCarloAIStrategy's playouts).
+     * @param random The generator the fork shuffles with, owned by the fork, null to use the calling thread's
+     *               ThreadLocalRandom
+     * @param deck The deck of the fork, owned by the fork
+     * @param players The players of the fork, owned by the fork
+     * @return the fork
+     */
+    UnoFlipModel fork(RandomGenerator random, Deck deck, ArrayList<Player> players){
+        return new UnoFlipModel(this, random, deck, players);
+    }
+
+    /**
+     * Adds the turn sequence of each card rank, bound to this game, to turnSeqs.
+     */
+    private void addTurnSequences(){
         //adding the same turn sequence 9 times because the first 9 ranks (all number cards) play out the same way
+        TurnSequence number = new Number(this);
         for(int i =0;i<=8;i++){
-            this.turnSeqs.add(new Number(this)); //Number
+            this.turnSeqs.add(number); //Number
         }
 
         //adding the turn sequence for the action cards into turnSeqs Arraylist
@@ -152,6 +284,18 @@ public class UnoFlipModel {
         return ai;
     }
 
+    /**
+     * Creates AI following the given strategy and adds them to the game
+     *
+     * @param strategy the strategy deciding the AI's moves
+     * @return new AI created
+     */
+    public AI createAIPlayer(AIStrategy strategy){
+        AI ai = new AI(strategy);
+        ai.addCardToHand(NUM_STARTING_CARDS, this.deck);
+        return ai;
+    }
+
     /**
      * Adds a player to the arraylist of players.
      * @param player The player to be added
@@ -168,19 +312,19 @@ public class UnoFlipModel {
         this.topCard = deck.takeCard();
 
         //rules don't allow wild draw 2 to be first card, keep drawing until a different card is drawn
-        while(this.topCard.getRank().ordinal() == Card.RANK_WILD_DRAW_2 || this.topCard.getRank().ordinal() == Card.Rank.WILD.ordinal()){
+        while(this.topCard.getRank(cardSide).ordinal() == Card.RANK_WILD_DRAW_2 || this.topCard.getRank(cardSide).ordinal() == Card.Rank.WILD.ordinal()){
             this.deck.putCard(this.topCard);
             this.topCard = this.deck.takeCard();  //redraw the topCard
         }
         //if first card drawn from deck is an action card (non-number card)
-        if(this.topCard.getRank().ordinal() > Card.RANK_NUMBER_CARDS) {
-            this.turnSeqs.get(this.topCard.getRank().ordinal()).executeSequence(this.topCard); //execute sequence if action card
+        if(this.topCard.getRank(cardSide).ordinal() > Card.RANK_NUMBER_CARDS) {
+            this.turnSeqs.get(this.topCard.getRank(cardSide).ordinal()).executeSequence(this.topCard); //execute sequence if action card
 
         } else{
             //number card drawn
-            this.currentColour = this.topCard.getColour();
-            this.currentRank = this.topCard.getRank();
-            this.status = STATUS_STANDARD;
+            this.currentColour = this.topCard.getColour(cardSide);
+            this.currentRank = this.topCard.getRank(cardSide);
+            setStatus(UnoFlipEvent.Status.STANDARD, STATUS_STANDARD);
 
 
         }
@@ -205,28 +349,48 @@ public class UnoFlipModel {
      *  Notify views subscribed to that model about the game state changes
      */
     public void notifyViews(){
+        if (this.fastForwarding) {
+            return;     // the views get one event when the fast-forward ends, keep the status for it
+        }
         //make sure there are views in the view arraylist to send UnoFlipEvents to
         if(!this.views.isEmpty()){
 
-            boolean isWildDraw = this.topCard.isWild() && !this.status.equals(STATUS_LIGHT_CHALLENGE_INNOCENT) &&
-                    !this.status.equals(STATUS_LIGHT_CHALLENGE_GUILTY) && !this.status.equals(STATUS_DARK_CHALLENGE_INNOCENT)
-                    && !this.status.equals(STATUS_DARK_CHALLENGE_GUILTY);
+            UnoFlipEvent.Status eventStatus = this.statusType;
+            boolean isWildDraw = this.topCard.isWild() && eventStatus != UnoFlipEvent.Status.CHALLENGE_INNOCENT
+                    && eventStatus != UnoFlipEvent.Status.CHALLENGE_GUILTY
+                    && eventStatus != UnoFlipEvent.Status.FAST_FORWARDED;
 
             String statusToUpdate;
 
             // If the current top card is a Wild Draw 2 and the next player declines to challenge
             if (isWildDraw && !isWinner) {
+                eventStatus = UnoFlipEvent.Status.COLOUR_SELECTED;
                 statusToUpdate = this.currentColour.toString(); //set status as the current colour chosen by the player (ex: RED)
             } else {
                 statusToUpdate = this.status;
             }
 
-            //Sends events to the view to update based on different game situations
+            // hand sizes and how much they changed since the last event
+            int[] handSizes = new int[this.players.size()];
+            int[] handSizeChanges = new int[handSizes.length];
+            for (int i = 0; i < handSizes.length; i++) {
+                handSizes[i] = this.players.get(i).getHandSize();
+                boolean known = notifiedHandSizes != null && notifiedHandSizes.length == handSizes.length;
+                handSizeChanges[i] = handSizes[i] - (known ? notifiedHandSizes[i] : 0);
+            }
+            notifiedHandSizes = handSizes;
+
+            //Sends the same event to every view, the event holds copies of the state it reports
+            UnoFlipEvent event = new UnoFlipEvent(this, eventStatus, statusToUpdate, getCurrentPlayer().getName(),
+                    this.topCard, getCurrentPlayer().getHand().getCards(), this.cardSide,
+                    this.players.get(currentTurn) instanceof AI, this.turnFinished, this.currentColour, handSizes,
+                    handSizeChanges, this.turnsPlayed, this.playerScores);
             for (UnoFlipView view : this.views) {
-                view.handleUnoFlipStatusUpdate(new UnoFlipEvent(this, getCurrentPlayer().getName(), this.topCard.toString(), getCurrentPlayer().toString(), statusToUpdate, this.players.get(currentTurn) instanceof AI,  this.turnFinished, this.currentColour, this.playerScores));
+                view.handleUnoFlipStatusUpdate(event);
             }
         }
-        this.status = STATUS_STANDARD;
+        setStatus(UnoFlipEvent.Status.STANDARD, STATUS_STANDARD);
+        this.turnsPlayed = 0;
     }
 
 
@@ -246,18 +410,18 @@ public class UnoFlipModel {
 
                 if (validSelfDrawOne()){
                     this.turnSeqs.get(TURN_SEQ_SELF_DRAW_ONE).executeSequence(null); // null is passed since no card is being played in this sequence, instead player will draw card from deck
-                    this.status = DRAW_CARD;
+                    setStatus(UnoFlipEvent.Status.CARD_DRAWN, DRAW_CARD);
                     this.turnFinished = true;
 
                 //player has a playable card, player still has to complete their turn
                 } else{
-                    this.status = STATUS_PLAYABLE_CARD;
+                    setStatus(UnoFlipEvent.Status.PLAYABLE_CARD, STATUS_PLAYABLE_CARD);
                 }
                 notifyViews();
                 return;
             }
 
-            int rank = getCurrentPlayer().getCard(this.chosenCardIndex).getRank().ordinal();
+            int rank = getCurrentPlayer().getCard(this.chosenCardIndex).getRank(cardSide).ordinal();
 
             //if the card wanting to be placed is a Wild Draw 2 or Wild
             if (getCurrentPlayer().getCard(this.chosenCardIndex).isWild()){
@@ -275,17 +439,17 @@ public class UnoFlipModel {
                     return;
                 }
                 this.turnSeqs.get(rank).executeSequence(playCard);
-                this.status = STATUS_STANDARD;
+                setStatus(UnoFlipEvent.Status.STANDARD, STATUS_STANDARD);
 
                 this.turnFinished = true;
 
             //if an invalid card
             } else {
-                this.status = STATUS_INVALID_CARD_BEING_PLACED;
+                setStatus(UnoFlipEvent.Status.INVALID_CARD, STATUS_INVALID_CARD_BEING_PLACED);
 
             }
         } else {
-           this.status = STATUS_TURN_FINISHED;
+           setStatus(UnoFlipEvent.Status.TURN_FINISHED, STATUS_TURN_FINISHED);
 
         }
         notifyViews();
@@ -297,17 +461,18 @@ public class UnoFlipModel {
      */
     public void playAITurn(){
         AI aiPlayer = (AI) this.players.get(currentTurn);
-        int chosenAICardIndex = aiPlayer.playAICard(this.currentColour, this.currentRank);
+        int chosenAICardIndex = aiPlayer.playAICard(this);
+        this.chosenCardIndex = chosenAICardIndex;
         if(chosenAICardIndex == DRAW_ONE_BUTTON){
             this.turnSeqs.get(TURN_SEQ_SELF_DRAW_ONE).executeSequence(null); // null is passed since no card is being played in this sequence, instead player will draw card from deck
-            this.status = AI_DRAW_CARD;
+            setStatus(UnoFlipEvent.Status.AI_DREW_CARD, AI_DRAW_CARD);
         } else {
-            int rank = getCurrentPlayer().getCard(chosenAICardIndex).getRank().ordinal();
+            int rank = getCurrentPlayer().getCard(chosenAICardIndex).getRank(cardSide).ordinal();
 
             if (getCurrentPlayer().getCard(chosenAICardIndex).isWild()){
                 Card playCard = getCurrentPlayer().playCard(chosenAICardIndex, this.deck);
                 this.turnSeqs.get(rank).executeSequence(playCard);
-                this.status = AI_PLAYED_CARD + playCard.toString();
+                setStatus(UnoFlipEvent.Status.AI_PLAYED_CARD, AI_PLAYED_CARD + playCard.toString(cardSide));
                 //check if winner
                 if (isWinner(getCurrentPlayer())) {
                     return;
@@ -321,13 +486,110 @@ public class UnoFlipModel {
                 }
 
                 this.turnSeqs.get(rank).executeSequence(playCard);
-                this.status = AI_PLAYED_CARD + "\n" + playCard.toString();
+                setStatus(UnoFlipEvent.Status.AI_PLAYED_CARD, AI_PLAYED_CARD + "\n" + playCard.toString(cardSide));
             }
         }
         this.turnFinished = true;
         notifyViews();
     }
 
+    /**
+     * autoPlayAITurn plays the current AI player's turn without any user interaction. If the AI plays a wild card,
+     * it picks the colour itself and, for a wild draw card, the next player takes the penalty without challenging.
+     * Used when no controller is driving the game (ex. headless simulations).
+     */
+    public void autoPlayAITurn(){
+        if (playAITurnAndPickColour()) {
+            takeWildDrawPenalty();  // standard flow of the game if no challenge
+        }
+    }
+
+    /**
+     * Plays the AI turns in a row without the views seeing each one, until it is a human player's turn, a player
+     * wins, a human player may challenge a wild draw card or MAX_FAST_FORWARD_TURNS turns have been played. The AI
+     * players pick the colour after their wild cards and, between AI players, wild draw cards are not challenged.
+     * The views get a single event once the turns are played, reporting the hand size changes of the whole run, and
+     * no event if it is not an AI's turn. If a human may challenge, isChallengePending is true and the AI who played
+     * the wild draw card is still the current player.
+     * @return the number of AI turns played
+     */
+    public int fastForwardAITurns(){
+        this.challengePending = false;
+        if (this.isWinner || !isCurrentPlayerAI()) {
+            return 0;
+        }
+
+        int turns = 0;
+        this.fastForwarding = true;
+        try {
+            while (!this.isWinner && isCurrentPlayerAI() && turns < MAX_FAST_FORWARD_TURNS) {
+                if (!this.turnFinished) {
+                    turns++;
+                    if (playAITurnAndPickColour()) {
+                        if (!isNextPlayerAI()) {
+                            this.challengePending = true;
+                            break;  // the human player decides whether to challenge
+                        }
+                        takeWildDrawPenalty();
+                    }
+                    if (this.isWinner) {
+                        break;
+                    }
+                }
+                nextTurn();
+            }
+        } finally {
+            this.fastForwarding = false;
+        }
+
+        if (!this.isWinner && turns > 0) {
+            setStatus(UnoFlipEvent.Status.FAST_FORWARDED, AI_FAST_FORWARDED + turns);
+            this.turnsPlayed = turns;
+        }
+        notifyViews();
+        return turns;
+    }
+
+    /**
+     * Returns whether the last fastForwardAITurns stopped on a wild draw card that the next player, a human, may
+     * challenge. The current player is then still the AI who played it.
+     * @return true if a challenge is pending
+     */
+    public boolean isChallengePending(){
+        return this.challengePending;
+    }
+
+    /**
+     * Plays the current AI player's turn and, if the AI played a wild card, lets it pick the colour.
+     * @return true if the AI played a wild draw card whose penalty is still to be taken
+     */
+    private boolean playAITurnAndPickColour(){
+        playAITurn();
+
+        // the AI drew a card or won, nothing left to resolve
+        if (this.isWinner || this.chosenCardIndex == DRAW_ONE_BUTTON || !this.topCard.isWild()) {
+            return false;
+        }
+
+        this.previousColour = this.currentColour; // hold the current colour before the AI picks a new one
+        setCurrentColour(((AI) getCurrentPlayer()).wildPickColour(cardSide));
+
+        Card.Rank rank = this.topCard.getRank(cardSide);
+        return rank == Card.Rank.WILD_DRAW_2 || rank == Card.Rank.WILD_DRAW_COLOUR;
+    }
+
+    /**
+     * The next player takes the penalty of the wild draw card on top, without challenging.
+     */
+    private void takeWildDrawPenalty(){
+        if (this.topCard.getRank(cardSide) == Card.Rank.WILD_DRAW_2) {
+            drawNCards(2, this.nextPlayerIndex);
+        } else {
+            drawCardUntilColour(this.currentColour, this.nextPlayerIndex);
+        }
+        setStatus(UnoFlipEvent.Status.DONE, STATUS_DONE);
+    }
+
 
     /**
      * Check if the player has no cards remaining
@@ -338,7 +600,7 @@ public class UnoFlipModel {
     private boolean isWinner(Player player){
         if (player.getHandSize() == 0) {
             player.setPlayerScore(getWinnerScore());
-            this.status = "WINNER:" + getCurrentPlayer().getName() + " HAS WON !"; // (EX. "WINNER: Player 1 HAS WON!")
+            setStatus(UnoFlipEvent.Status.WINNER, STATUS_WINNER + getCurrentPlayer().getName() + " HAS WON !"); // (EX. "WINNER: Player 1 HAS WON!")
             this.isWinner = true;
             updatePlayerScores();
             notifyViews();
@@ -388,11 +650,11 @@ public class UnoFlipModel {
                 }
             }
 
-            this.status = STATUS_STANDARD;
+            setStatus(UnoFlipEvent.Status.STANDARD, STATUS_STANDARD);
             clearActionCardFlags();
 
         }else {
-            this.status = STATUS_PLAYER_SKIPPING_TURN;
+            setStatus(UnoFlipEvent.Status.SKIPPING_TURN, STATUS_PLAYER_SKIPPING_TURN);
 
         }
 
@@ -407,7 +669,7 @@ public class UnoFlipModel {
      * @return true if the player is guilty, false if innocent
      */
     public boolean challenge(){
-        if (getTopCard().getRank() == Card.Rank.WILD_DRAW_2) {
+        if (getTopCard().getRank(cardSide) == Card.Rank.WILD_DRAW_2) {
             return !isWildDrawTwoValid();
         } else {
             return !isWildDrawColourValid();
@@ -421,11 +683,11 @@ public class UnoFlipModel {
     public void guiltyConsequences() {
         if (getCurrentRank() == Card.Rank.WILD_DRAW_2) {
             drawNCards(2, getCurrentTurn());
-            status = STATUS_LIGHT_CHALLENGE_GUILTY;
+            setStatus(UnoFlipEvent.Status.CHALLENGE_GUILTY, STATUS_LIGHT_CHALLENGE_GUILTY);
         } else {
             // guilty for wild draw colour
             drawCardUntilColour(getCurrentColour(), currentTurn);
-            status = STATUS_DARK_CHALLENGE_GUILTY;
+            setStatus(UnoFlipEvent.Status.CHALLENGE_GUILTY, STATUS_DARK_CHALLENGE_GUILTY);
         }
         notifyViews();
     }
@@ -437,12 +699,12 @@ public class UnoFlipModel {
     public void innocentConsequences() {
         if (getCurrentRank() == Card.Rank.WILD_DRAW_2) {
             this.drawNCards(4, this.getNextTurn());
-            status = STATUS_LIGHT_CHALLENGE_INNOCENT;
+            setStatus(UnoFlipEvent.Status.CHALLENGE_INNOCENT, STATUS_LIGHT_CHALLENGE_INNOCENT);
         } else {
             // innocent for wild draw colour
             drawCardUntilColour(getCurrentColour(), nextPlayerIndex);
             drawNCards(2, nextPlayerIndex);
-            status = STATUS_DARK_CHALLENGE_INNOCENT;
+            setStatus(UnoFlipEvent.Status.CHALLENGE_INNOCENT, STATUS_DARK_CHALLENGE_INNOCENT);
         }
         notifyViews();
     }
@@ -452,16 +714,17 @@ public class UnoFlipModel {
      * @return return true if valid time to play wild draw 2, otherwise false.
      */
     private boolean isWildDrawTwoValid(){
-        for (int i = 0; i < this.getCurrentPlayer().getHandSize();i++){
-            if (this.getCurrentPlayer().getCard(i).getRank() == getPreviousRank() || this.getCurrentPlayer().getCard(i).getColour() == getPreviousColour()){
-                // If the hand contains an action card, playing wild draw 2 is still valid
-                if(this.getCurrentPlayer().getCard(i).getRank() == Card.Rank.REVERSE || this.getCurrentPlayer().getCard(i).getRank() == Card.Rank.SKIP || this.getCurrentPlayer().getCard(i).getRank() == Card.Rank.DRAW_ONE){
-                    continue;
-                }
-                return false;
-            }
+        Hand hand = this.getCurrentPlayer().getHand();
+        Card.Rank previousRank = getPreviousRank();
+        Card.Colour previousColour = getPreviousColour();
+        int matches = hand.countMatches(previousRank, previousColour, cardSide);
+
+        // If the hand contains an action card, playing wild draw 2 is still valid
+        for (Card.Rank action : WILD_DRAW_TWO_EXEMPT_RANKS){
+            matches -= action == previousRank ? hand.getRankCount(action, cardSide)
+                    : hand.getCount(action, previousColour, cardSide);
         }
-        return true;
+        return matches == 0;
     }
 
 
@@ -470,7 +733,7 @@ public class UnoFlipModel {
      * @return true if valid, fales otherwise
      */
     private boolean isWildDrawColourValid() {
-        return !(getCurrentPlayer().colourInHand(getPreviousColour()));
+        return !(getCurrentPlayer().colourInHand(getPreviousColour(), cardSide));
     }
 
     /**
@@ -482,14 +745,14 @@ public class UnoFlipModel {
 
         /*handling if the last card played is a draw card (ex. RED_DRAW_ONE or WILD_DRAW_2)
           cards must still be given to next players before winner's score is calculated */
-        if(this.topCard.getRank().ordinal() == Card.RANK_DRAW_ONE){
+        if(this.topCard.getRank(cardSide).ordinal() == Card.RANK_DRAW_ONE){
             drawNCards(1,this.nextPlayerIndex);
-        } else if(this.topCard.getRank().ordinal() == Card.RANK_WILD_DRAW_2){
+        } else if(this.topCard.getRank(cardSide).ordinal() == Card.RANK_WILD_DRAW_2){
             drawNCards(2,this.nextPlayerIndex);
         }
 
         for(Player p: this.players){
-            winnerScore += p.getHandScore();
+            winnerScore += p.getHandScore(cardSide);
         }
         return winnerScore;
     }
@@ -508,12 +771,7 @@ public class UnoFlipModel {
      * @return return true if valid to draw a card from deck, otherwise false.
      */
     private boolean validSelfDrawOne(){
-        for (int i = 0; i < this.getCurrentPlayer().getHandSize();i++){
-            if (this.getCurrentPlayer().getCard(i).getRank() == this.getCurrentRank() || this.getCurrentPlayer().getCard(i).getColour() == this.getCurrentColour()){
-                return false;
-            }
-        }
-        return true;
+        return !this.getCurrentPlayer().getHand().hasMatch(this.getCurrentRank(), this.getCurrentColour(), cardSide);
     }
 
     /**
@@ -620,15 +878,36 @@ public class UnoFlipModel {
      * @param view - the view that will be added to the list
      */
     public void addUnoFlipView(UnoFlipView view){
+        if (this.views == NO_VIEWS) {
+            this.views = new ArrayList<UnoFlipView>();
+        }
         this.views.add(view);
     }
 
+    /**
+     * Adds a view that is updated later on its own executor (ex. SwingUtilities::invokeLater for a Swing view) instead
+     * of during the call that changed the game. Events sent before a delivery runs are coalesced (see
+     * UnoFlipEventDispatcher).
+     * @param view The view that will be added to the list
+     * @param executor The executor the view is updated on
+     */
+    public void addUnoFlipView(UnoFlipView view, Executor executor){
+        addUnoFlipView(new UnoFlipEventDispatcher(view, executor));
+    }
+
     /**
      * Method removeUnoFlipView removes view from the view list
      * @param view - the view that will be removed from the list
      */
     public void removeUnoFlipView(UnoFlipView view){
-        this.views.remove(view);
+        for (int i = 0; i < this.views.size(); i++) {
+            UnoFlipView added = this.views.get(i);
+            if (added == view || (added instanceof UnoFlipEventDispatcher
+                    && ((UnoFlipEventDispatcher) added).getView() == view)) {
+                this.views.remove(i);
+                return;
+            }
+        }
     }
 
     /**
@@ -712,18 +991,26 @@ public class UnoFlipModel {
     }
 
     /**
-     * Returns the current side of the Cards (light or dark)
+     * Returns the current side of the Cards (light or dark) in this game
      * @return true if it's light side, false if it's dark side
      */
     public boolean getCardSide() {
-        return Card.getSide();
+        return this.cardSide;
+    }
+
+    /**
+     * Sets the current side of the cards in this game.
+     * @param cardSide Card.LIGHT or Card.DARK
+     */
+    public void setCardSide(boolean cardSide) {
+        this.cardSide = cardSide;
     }
 
     /**
      * Flips the current side of the cards in the game.
      */
     public void flipCardSide() {
-        Card.flipSide();
+        this.cardSide = !this.cardSide;
     }
 
     /**
@@ -767,9 +1054,11 @@ public class UnoFlipModel {
 
     /**
      * Setting the status
+     * @param statusType - the kind of update the status reports
      * @param status - the new status
      */
-    public void setStatus(String status ){
+    public void setStatus(UnoFlipEvent.Status statusType, String status){
+        this.statusType = statusType;
         this.status = status;
     }
 
@@ -855,6 +1144,14 @@ public class UnoFlipModel {
         return status;
     }
 
+    /**
+     * Returns the kind of update the current status reports.
+     * @return the kind of the current status
+     */
+    public UnoFlipEvent.Status getStatusType() {
+        return statusType;
+    }
+
     /**
      * Keeps drawing cards for a player until they draw a card of the chosen colour.
      * @param chosenColour The chosen colour
@@ -865,7 +1162,7 @@ public class UnoFlipModel {
         do {
             drawNCards(1, playerIndex);
             Card cardDrawn = players.get(playerIndex).getCard(players.get(playerIndex).getHandSize()-1);    // the card just drawn is their last card
-            if (cardDrawn.getColour() == chosenColour) {
+            if (cardDrawn.getColour(cardSide) == chosenColour) {
                 colourDrawn = true;
             }
         } while (!colourDrawn); // keep drawing until you get the chosen colour
@@ -914,27 +1211,36 @@ public class UnoFlipModel {
         return deck;
     }
 
+    /**
+     * Returns the score line of each player shown to the views.
+     * @return the player scores
+     */
+    public ArrayList<String> getPlayerScores() {
+        return playerScores;
+    }
+
     /**
      * Returns an XML representation of the players in model.
      * @return xml representation of the players in model.
      */
     public String modelPlayersToXML(){
-        StringBuilder xml = new StringBuilder("<players>");
+        return XMLFormat.toString(this::writeModelPlayersXML);
+    }
 
+    /**
+     * Writes the XML representation of the players in model (see modelPlayersToXML).
+     * @param out The Writer to write to
+     * @throws IOException if the Writer fails
+     */
+    public void writeModelPlayersXML(Writer out) throws IOException {
+        out.write("<players>");
         for(Player p : players){
-            try{
-                // check if AI with downcasting
-                AI ai = (AI) p;
-                xml.append(ai.toXML(1));
-
-            } catch(Exception ex){
-                // player object
-                xml.append("\n"+p.toXML(1));
+            if (!(p instanceof AI)) {
+                out.write('\n');   // an AI starts its own XML on a new line
             }
-
+            p.writeXML(out, 1, cardSide);
         }
-        xml.append("\n </players>");
-        return  xml.toString();
+        out.write("\n </players>");
     }
 
     /**
@@ -942,7 +1248,16 @@ public class UnoFlipModel {
      * @return xml representation of the deck in model.
      */
     public String modelDeckToXML(){
-        return deck.toXML(0);
+        return deck.toXML(0, cardSide);
+    }
+
+    /**
+     * Writes the XML representation of the deck in model (see modelDeckToXML).
+     * @param out The Writer to write to
+     * @throws IOException if the Writer fails
+     */
+    public void writeModelDeckXML(Writer out) throws IOException {
+        deck.writeXML(out, 0, cardSide);
     }
 
     /**
@@ -950,48 +1265,128 @@ public class UnoFlipModel {
      * @return xml representation of the data in model.
      */
     public String modelDataToXML(){
-        StringBuilder xml = new StringBuilder("<UnoFlipModel>");
-        xml.append("\n\t <turnFinished>"+this.getTurnFinished()+"</turnFinished>");
-        xml.append("\n\t <skipTurn>"+this.getSkipTurn()+"</skipTurn>");
-        xml.append("\n\t <skipEveryone>"+this.getSkipEveryone()+"</skipEveryone>");
-        xml.append("\n\t <turnDirection>"+this.getTurnDirection()+"</turnDirection>");
-        xml.append("\n\t <numPlayer>"+this.getNumPlayers()+"</numPlayer>");
-        xml.append("\n\t <chosenCardIndex>"+this.getChosenCardIndex()+"</chosenCardIndex>");
-        xml.append("\n\t <currentTurn>"+this.getCurrentTurn()+"</currentTurn>");
-        xml.append("\n\t <nextPlayerIndex>"+this.getNextTurn()+"</nextPlayerIndex>");
-        xml.append("\n\t <status>"+this.getStatus()+"</status>");
-        xml.append("\n\t <currentColour>"+this.getCurrentColour()+"</currentColour>");
-        xml.append("\n\t <previousColour>"+this.getPreviousColour()+"</previousColour>");
-        xml.append("\n\t <currentRank>"+this.getCurrentRank()+"</currentRank>");
-        xml.append("\n\t <previousRank>"+this.getPreviousRank()+"</previousRank>");
-        xml.append("\n\t <topCard>");
-        xml.append("\n"+this.topCard.toXML(2));
-        xml.append("\n\t </topCard>");
-        xml.append("\n\t <isWinner>"+this.getIsWinner()+"</isWinner>");
-        xml.append("\n</UnoFlipModel>");
-        return xml.toString();
-    }
-
-    /**
-    * Undo players last turn 
-    */
-    public void undoRedoTurn(){
-        // Save current state to temp files
-        exportToXMLFile(UnoFlipModel.TEMP_STATE_MODEL_DATA, UnoFlipModel.XML_MODEL_DATA_FLAG);
-        exportToXMLFile(UnoFlipModel.TEMP_STATE_MODEL_DECK, UnoFlipModel.XML_MODEL_DECK_FLAG);
-        exportToXMLFile(UnoFlipModel.TEMP_STATE_MODEL_PLAYERS, UnoFlipModel.XML_MODEL_PLAYERS_FLAG);
-
-        // Import previous state
-        importFromXMLFile( PAST_STATE_MODEL_DATA,  PAST_STATE_MODEL_PLAYERS, PAST_STATE_MODEL_DECK);
-
-        // Update previous state with temp
-        swapTempPrevXML(UnoFlipModel.TEMP_STATE_MODEL_DATA, UnoFlipModel.PAST_STATE_MODEL_DATA);
-        swapTempPrevXML(UnoFlipModel.TEMP_STATE_MODEL_DECK, UnoFlipModel.PAST_STATE_MODEL_DECK);
-        swapTempPrevXML(UnoFlipModel.TEMP_STATE_MODEL_PLAYERS, UnoFlipModel.PAST_STATE_MODEL_PLAYERS);
+        return XMLFormat.toString(this::writeModelDataXML);
+    }
+
+    /**
+     * Writes the XML representation of the data in model (see modelDataToXML).
+     * @param out The Writer to write to
+     * @throws IOException if the Writer fails
+     */
+    public void writeModelDataXML(Writer out) throws IOException {
+        out.write("<UnoFlipModel>");
+        writeModelDataElement(out, "turnFinished", this.getTurnFinished());
+        writeModelDataElement(out, "skipTurn", this.getSkipTurn());
+        writeModelDataElement(out, "skipEveryone", this.getSkipEveryone());
+        writeModelDataElement(out, "turnDirection", this.getTurnDirection());
+        writeModelDataElement(out, "numPlayer", this.getNumPlayers());
+        writeModelDataElement(out, "chosenCardIndex", this.getChosenCardIndex());
+        writeModelDataElement(out, "currentTurn", this.getCurrentTurn());
+        writeModelDataElement(out, "nextPlayerIndex", this.getNextTurn());
+        writeModelDataElement(out, "status", this.getStatus());
+        writeModelDataElement(out, "statusType", this.getStatusType());
+        writeModelDataElement(out, "currentColour", this.getCurrentColour());
+        writeModelDataElement(out, "previousColour", this.getPreviousColour());
+        writeModelDataElement(out, "currentRank", this.getCurrentRank());
+        writeModelDataElement(out, "previousRank", this.getPreviousRank());
+        out.write("\n\t <topCard>\n");
+        this.topCard.writeXML(out, 2, cardSide);
+        out.write("\n\t </topCard>");
+        writeModelDataElement(out, "isWinner", this.getIsWinner());
+        out.write("\n</UnoFlipModel>");
+    }
+
+    /**
+     * Writes one element of the model data on its own line.
+     * @param out The Writer to write to
+     * @param name The name of the element
+     * @param value The content of the element
+     * @throws IOException if the Writer fails
+     */
+    private static void writeModelDataElement(Writer out, String name, Object value) throws IOException {
+        out.write("\n\t <");
+        out.write(name);
+        out.write('>');
+        out.write(String.valueOf(value));
+        out.write("</");
+        out.write(name);
+        out.write('>');
+    }
+
+    /**
+     * Undo players last turn by going back to the most recently saved state.
+     * The current state is kept so that the undo can be redone.
+     * @throws IllegalStateException if there is no saved state to go back to
+     */
+    public void undoTurn(){
+        ModelSnapshot previous = this.undoHistory.pop();
+        this.redoHistory.push(takeSnapshot());
+        restoreSnapshot(previous);
+        notifyViews();
+    }
 
+    /**
+     * Redo the most recently undone turn.
+     * @throws IllegalStateException if there is no undone turn
+     */
+    public void redoTurn(){
+        ModelSnapshot undone = this.redoHistory.pop();
+        this.undoHistory.push(takeSnapshot());
+        restoreSnapshot(undone);
         notifyViews();
     }
 
+    /**
+     * Returns if there is a saved state to undo to.
+     * @return true if undoTurn can be called, false otherwise
+     */
+    public boolean canUndo(){
+        return !this.undoHistory.isEmpty();
+    }
+
+    /**
+     * Returns if there is an undone turn to redo.
+     * @return true if redoTurn can be called, false otherwise
+     */
+    public boolean canRedo(){
+        return !this.redoHistory.isEmpty();
+    }
+
+    /**
+     * Takes an in-memory snapshot of the current game state.
+     * @return the snapshot
+     */
+    public ModelSnapshot takeSnapshot(){
+        return new ModelSnapshot(this);
+    }
+
+    /**
+     * Sets the game state to the state held by a snapshot. Views are not notified.
+     * @param snapshot The snapshot to restore
+     */
+    public void restoreSnapshot(ModelSnapshot snapshot){
+        this.turnFinished = snapshot.getTurnFinished();
+        this.skipTurn = snapshot.getSkipTurn();
+        this.skipEveryone = snapshot.getSkipEveryone();
+        this.turnDirection = snapshot.getTurnDirection();
+        this.numPlayers = snapshot.getNumPlayers();
+        this.chosenCardIndex = snapshot.getChosenCardIndex();
+        this.currentTurn = snapshot.getCurrentTurn();
+        this.nextPlayerIndex = snapshot.getNextPlayerIndex();
+        this.status = snapshot.getStatus();
+        this.statusType = snapshot.getStatusType();
+        this.currentColour = snapshot.getCurrentColour();
+        this.previousColour = snapshot.getPreviousColour();
+        this.currentRank = snapshot.getCurrentRank();
+        this.previousRank = snapshot.getPreviousRank();
+        this.topCard = snapshot.getTopCard();
+        this.cardSide = snapshot.getCardSide();
+        this.isWinner = snapshot.getIsWinner();
+        this.deck = snapshot.copyDeck(random);   // keep shuffling with this game's generator
+        this.players = snapshot.copyPlayers();
+        this.playerScores = snapshot.copyPlayerScores();
+    }
+
     /**
      * Restarts the game by setting the game state to the initial game state
      * while preserving each player's score.
@@ -1001,15 +1396,18 @@ public class UnoFlipModel {
         this.skipEveryone = false;
         this.currentTurn = 0;
         this.nextPlayerIndex = currentTurn +1;
-        this.deck = new Deck();
+        this.deck = new Deck(random);
         this.deck.initStartingDeck(); // need to initialize with starting cards
+        this.cardSide = Card.LIGHT;
         this.currentColour = Card.Colour.NULL;
         this.currentRank = Card.Rank.NULL;
         this.chosenCardIndex = -2; // initialize to -2 to indicate that it has not been set to a valid index yet
         this.skipTurn = false;
         this.turnFinished = false;    //initialize false to ensure first player can play/draw a card
-        this.status = STATUS_STANDARD;
+        setStatus(UnoFlipEvent.Status.STANDARD, STATUS_STANDARD);
         this.isWinner = false;
+        this.undoHistory.clear();  // the saved states belong to the previous round
+        this.redoHistory.clear();
 
         setUpInitialTopCard();
 
@@ -1017,55 +1415,181 @@ public class UnoFlipModel {
             p.emptyHand();
             p.addCardToHand(NUM_STARTING_CARDS, deck);
         }
+        savePrev();     // the first turn of the round can be undone
         notifyViews();
     }
 
+    /**
+     * Loads the game saved by saveGame() in the XML format.
+     * @throws UncheckedIOException if the saved game cannot be read
+     */
     public void loadGame(){
-        importFromXMLFile(CURRENT_STATE_MODEL_DATA,CURRENT_STATE_MODEL_PLAYERS, CURRENT_STATE_MODEL_DECK);
+        loadGame(SaveFormat.XML);
+    }
+
+    /**
+     * Loads the game saved by saveGame(format). An XML game saved in the three files of older versions
+     * (CURRENT_STATE_MODEL_DATA, CURRENT_STATE_MODEL_PLAYERS and CURRENT_STATE_MODEL_DECK) is loaded if there is no
+     * CURRENT_STATE_MODEL file. The game is left unchanged if the saved game cannot be read.
+     * @param format The format the game was saved in
+     * @throws UncheckedIOException if the saved game cannot be read
+     */
+    public void loadGame(SaveFormat format){
+        if (format == SaveFormat.BINARY) {
+            importFromBinaryFile(CURRENT_STATE_MODEL_BINARY);
+        } else if (new File(CURRENT_STATE_MODEL).exists()) {
+            importFromXMLFile(CURRENT_STATE_MODEL);
+        } else {
+            importFromXMLFile(CURRENT_STATE_MODEL_DATA, CURRENT_STATE_MODEL_PLAYERS, CURRENT_STATE_MODEL_DECK);
+        }
+        this.undoHistory.clear();  // the saved states belong to the game that was replaced
+        savePrev();     // the first turn after loading can be undone
 
         notifyViews();
     }
 
+    /**
+     * Saves the current state in memory so that the turns played after it can be undone.
+     * Saving a new state discards the turns that were undone.
+     */
     public void savePrev(){
-        exportToXMLFile(UnoFlipModel.PAST_STATE_MODEL_DATA, UnoFlipModel.XML_MODEL_DATA_FLAG);
-        exportToXMLFile(UnoFlipModel.PAST_STATE_MODEL_DECK, UnoFlipModel.XML_MODEL_DECK_FLAG);
-        exportToXMLFile(UnoFlipModel.PAST_STATE_MODEL_PLAYERS, UnoFlipModel.XML_MODEL_PLAYERS_FLAG);
+        this.undoHistory.push(takeSnapshot());
+        this.redoHistory.clear();
     }
 
 
 
 
+    /**
+     * Saves the game in the XML format.
+     */
     public void saveGame(){
-        exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DATA, UnoFlipModel.XML_MODEL_DATA_FLAG);
-        exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DECK, UnoFlipModel.XML_MODEL_DECK_FLAG);
-        exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_PLAYERS, UnoFlipModel.XML_MODEL_PLAYERS_FLAG);
+        saveGame(SaveFormat.XML);
+    }
+
+    /**
+     * Saves the game in the given format, replacing the game previously saved in that format.
+     * @param format The format to save the game in
+     */
+    public void saveGame(SaveFormat format){
+        if (format == SaveFormat.BINARY) {
+            exportToBinaryFile(CURRENT_STATE_MODEL_BINARY);
+        } else {
+            exportToXMLFile(CURRENT_STATE_MODEL);
+        }
+    }
+
+    /**
+     * Exports the game to a file in the compact binary format
+     * @param fileName name of the file the game will be exported to
+     */
+    public void exportToBinaryFile(String fileName){
+        try {
+            ModelBinaryCodec.write(takeSnapshot(), Paths.get(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
+    /**
+     * Imports a game from a file written by exportToBinaryFile. Views are not notified.
+     * @param fileName name of the file the game will be imported from
+     */
+    public void importFromBinaryFile(String fileName){
+        try {
+            restoreSnapshot(ModelBinaryCodec.read(Paths.get(fileName)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Imports a game from a single XML file written by exportToXMLFile(String), reading it in one pass.
+     * Views are not notified.
+     * @param fileName name of the file the game will be imported from
+     */
+    public void importFromXMLFile(String fileName){
+        try{
+            restoreXMLSnapshot(getXMLParser().readXMLGameFile(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Imports a game from the three XML files written by exportToXMLFile(String, String). Views are not notified.
+     * @param dataFileName name of the file holding the model data
+     * @param playersFileName name of the file holding the players
+     * @param deckFileName name of the file holding the deck
+     */
     public void importFromXMLFile(String dataFileName, String playersFileName, String deckFileName){
-        ModelDataParser parser = new ModelDataParser();
         try{
-            UnoFlipModel temp = parser.readXMLModelDataFile(dataFileName,playersFileName, deckFileName);
-            this.setTurnFinished(temp.getTurnFinished());
-            this.setSkipTurn(temp.getSkipTurn());
-            this.setSkipEveryone(temp.getSkipEveryone());
-            this.setTurnDirection(temp.getTurnDirection());
-            this.setNumPlayers(temp.getNumPlayers());
-            this.setChosenCardIndex(temp.getChosenCardIndex());
-            this.setCurrentTurn(temp.getCurrentTurn());
-            this.setNextPlayerIndex(temp.getNextTurn());
-            this.setStatus(temp.getStatus());
-            this.setCurrentColour(temp.getCurrentColour());
-            this.setPreviousColour(temp.getPreviousColour());
-            this.setCurrentRank(temp.getCurrentRank());
-            this.setPreviousRank(temp.getPreviousRank());
-            this.setTopCard(temp.getTopCard());
-            this.setIsWinner(temp.getIsWinner());
-            this.players = temp.getPlayers();
-            this.deck = temp.getDeck();
-            TurnSequence.setUnoFlipModel(this);
+            restoreXMLSnapshot(getXMLParser().readXMLModelFiles(dataFileName, playersFileName, deckFileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the parser of the XML imports, creating it on first use so that games that are never loaded (ex. forks)
+     * do not make one.
+     * @return the parser
+     */
+    private ModelGameParser getXMLParser(){
+        if (this.xmlParser == null) {
+            this.xmlParser = new ModelGameParser();
+        }
+        return this.xmlParser;
+    }
+
+    /**
+     * Sets the game state to a game read from XML. The XML files do not hold the player score lines, so the
+     * current ones are kept.
+     * @param snapshot The game read from XML
+     */
+    private void restoreXMLSnapshot(ModelSnapshot snapshot){
+        ArrayList<String> scores = this.playerScores;
+        restoreSnapshot(snapshot);
+        this.playerScores = scores;
+    }
 
+    /**
+     * Returns an XML representation of the whole game, holding the model data, the deck and the players.
+     * @return xml representation of the game
+     */
+    public String modelToXML(){
+        return XMLFormat.toString(this::writeXML);
+    }
+
+    /**
+     * Writes the XML representation of the whole game (see modelToXML).
+     * @param out The Writer to write to
+     * @throws IOException if the Writer fails
+     */
+    public void writeXML(Writer out) throws IOException {
+        out.write("<" + ModelGameParser.GAME_ELEMENT + ">\n");
+        writeModelDataXML(out);
+        out.write('\n');
+        writeModelDeckXML(out);
+        out.write('\n');
+        writeModelPlayersXML(out);
+        out.write("\n</" + ModelGameParser.GAME_ELEMENT + ">");
+    }
+
+    /**
+     * Exports the whole game to a single XML file. The file is replaced atomically, a crash while saving leaves the
+     * previously saved game intact.
+     * @param fileName name of the file the game XML will be exported to
+     */
+    public void exportToXMLFile(String fileName){
+        try {
+            AtomicFileWriter.write(Paths.get(fileName), channel -> {
+                Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+                writeXML(out);
+                out.flush();
+            });
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -1074,20 +1598,16 @@ public class UnoFlipModel {
      * @param fileName name of the file the game XMl will be exported too
      */
     public void exportToXMLFile(String fileName, String xmlFlag){
-        try {
-            PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(fileName)));
+        try (Writer out = new BufferedWriter(new FileWriter(fileName))) {
             switch (xmlFlag){
                 case XML_MODEL_DATA_FLAG:
-                    out.write(this.modelDataToXML());
-                    out.close();
+                    writeModelDataXML(out);
                     break;
                 case XML_MODEL_DECK_FLAG:
-                    out.write(this.modelDeckToXML());
-                    out.close();
+                    writeModelDeckXML(out);
                     break;
                 case XML_MODEL_PLAYERS_FLAG:
-                    out.write(this.modelPlayersToXML());
-                    out.close();
+                    writeModelPlayersXML(out);
                     break;
             }
 
@@ -1095,28 +1615,4 @@ public class UnoFlipModel {
             e.getMessage();
         }
     }
-
-    /**
-     * Swap the contents of the temp files to the previous files.
-     */
-    private void swapTempPrevXML(String sourcePath, String destPath){
-        try {
-
-            // Use BufferedReader to read from the source file
-            try (BufferedReader reader = new BufferedReader(new FileReader(sourcePath))) {
-                // Use BufferedWriter to write to the destination file
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(destPath))) {
-                    // Read each line from the source and write it to the destination
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        writer.write(line);
-                        writer.newLine(); // Add a newline after each line (adjust if needed)
-                    }
-                }
-            }
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
 }
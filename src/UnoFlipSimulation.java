@@ -0,0 +1,212 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The UnoFlipSimulation class plays complete games of Uno Flip between AI players with no views, no controller and
+ * no file I/O. Each game drives UnoFlipModel directly through autoPlayAITurn and nextTurn, so a single core can
+ * play thousands of games a second. Used to benchmark the game logic and to run AI vs AI tournaments.
+ * Each game is shuffled from its own seed, drawn from the simulation's seed, so a simulation made with the same seed
+ * plays the same games and any single game can be replayed with newGame(long).
+ *
+ * Date: 2026-10-17
+ */
+public class UnoFlipSimulation {
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 12;
+    public static final int MAX_TURNS_PER_GAME = 10000;  // guards against games that can never finish
+
+    private final int numPlayers;
+    private final AIStrategy[] strategies;  // strategy of the bot in each seat
+    private final SplittableRandom seeds;   // hands out the seed of each game
+    private long lastSeed;
+    private long gamesPlayed;
+    private long gamesUnfinished;
+    private long turnsPlayed;
+    private long elapsedNanos;
+
+    /**
+     * Constructs a simulation where every game is played by the given number of AI players, with a random seed.
+     * @param numPlayers The number of AI players in each game (between 2-12)
+     * @throws IllegalArgumentException if the number of players is not within the valid range of 2-12 players
+     */
+    public UnoFlipSimulation(int numPlayers) {
+        this(numPlayers, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a simulation where every game is played by the given number of AI players.
+     * @param numPlayers The number of AI players in each game (between 2-12)
+     * @param seed The seed the seeds of the games are drawn from
+     * @throws IllegalArgumentException if the number of players is not within the valid range of 2-12 players
+     */
+    public UnoFlipSimulation(int numPlayers, long seed) {
+        this(defaultStrategies(numPlayers), seed);
+    }
+
+    /**
+     * Constructs a simulation where every game is played by one AI player per strategy, seated in the order of the
+     * strategies, so policies can be compared head-to-head.
+     * @param strategies The strategy of the AI player in each seat (between 2-12 of them)
+     * @param seed The seed the seeds of the games are drawn from
+     * @throws IllegalArgumentException if the number of strategies is not within the valid range of 2-12 players
+     */
+    public UnoFlipSimulation(AIStrategy[] strategies, long seed) {
+        if (strategies.length < MIN_PLAYERS || strategies.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Number of players must be between 2-12");
+        }
+        this.numPlayers = strategies.length;
+        this.strategies = strategies.clone();
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the strategies of a game where every bot follows DefaultAIStrategy.
+     * @param numPlayers The number of AI players
+     * @return The strategy of each seat
+     */
+    static AIStrategy[] defaultStrategies(int numPlayers) {
+        AIStrategy[] strategies = new AIStrategy[Math.max(numPlayers, 0)];  // invalid counts fail the range check
+        Arrays.fill(strategies, new DefaultAIStrategy());
+        return strategies;
+    }
+
+    /**
+     * Sets up a new game between AI players, ready for the first turn. Its seed is drawn from the simulation's seed.
+     * @return The model of the new game
+     */
+    public UnoFlipModel newGame() {
+        return newGame(seeds.nextLong());
+    }
+
+    /**
+     * Sets up a new game between AI players from a seed, ready for the first turn. Playing it with
+     * playToCompletion always gives the same game.
+     * @param seed The seed of the game
+     * @return The model of the new game
+     */
+    public UnoFlipModel newGame(long seed) {
+        this.lastSeed = seed;
+        UnoFlipModel model = new UnoFlipModel(seed);
+        for (int i = 0; i < numPlayers; i++) {
+            model.addPlayer(model.createAIPlayer(strategies[i]));
+        }
+        model.setNumPlayers(numPlayers);
+        model.setUpInitialTopCard();
+        return model;
+    }
+
+    /**
+     * Plays a single game to completion and adds it to the running totals.
+     * @return The model of the finished game, isWinner() is false if the game could not be finished
+     */
+    public UnoFlipModel playGame() {
+        long start = System.nanoTime();
+        UnoFlipModel model = newGame();
+        int turns = playToCompletion(model);
+
+        this.elapsedNanos += System.nanoTime() - start;
+        this.turnsPlayed += turns;
+        this.gamesPlayed++;
+        if (!model.isWinner()) {
+            this.gamesUnfinished++;
+        }
+        return model;
+    }
+
+    /**
+     * Plays the given number of games one after another.
+     * @param numGames The number of games to play
+     */
+    public void run(int numGames) {
+        for (int i = 0; i < numGames; i++) {
+            playGame();
+        }
+    }
+
+    /**
+     * Plays AI turns on the model until a player wins, the draw pile runs dry or MAX_TURNS_PER_GAME is reached.
+     * @param model The model of a game that has been set up with AI players only
+     * @return The number of turns played
+     */
+    public static int playToCompletion(UnoFlipModel model) {
+        int turns = 0;
+        try {
+            while (!model.isWinner() && turns < MAX_TURNS_PER_GAME) {
+                model.autoPlayAITurn();
+                turns++;
+                if (!model.isWinner()) {
+                    model.nextTurn();
+                }
+            }
+        } catch (java.util.EmptyStackException e) {
+            // every card is held by the players, the game cannot continue
+        }
+        return turns;
+    }
+
+    /**
+     * Returns the seed of the game set up most recently, to replay it with newGame(long).
+     * @return The seed of the last game
+     */
+    public long getLastSeed() {
+        return lastSeed;
+    }
+
+    /**
+     * Returns the number of games played so far.
+     * @return The number of games played
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Returns the number of games that ended without a winner.
+     * @return The number of unfinished games
+     */
+    public long getGamesUnfinished() {
+        return gamesUnfinished;
+    }
+
+    /**
+     * Returns the total number of turns played over all games.
+     * @return The number of turns played
+     */
+    public long getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Returns the number of games played per second of simulation time.
+     * @return games per second
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : gamesPlayed * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the number of turns played per second of simulation time.
+     * @return turns per second
+     */
+    public double getTurnsPerSecond() {
+        return elapsedNanos == 0 ? 0 : turnsPlayed * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Runs a headless benchmark.
+     * Usage: java UnoFlipSimulation [numGames] [numPlayers]
+     * @param args optional number of games (default 10000) and number of players (default 4)
+     */
+    public static void main(String[] args) {
+        int numGames = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        UnoFlipSimulation simulation = new UnoFlipSimulation(numPlayers);
+        simulation.run(numGames);
+
+        System.out.printf("%d games (%d unfinished), %d players, %d turns%n", simulation.getGamesPlayed(),
+                simulation.getGamesUnfinished(), numPlayers, simulation.getTurnsPlayed());
+        System.out.printf("%.1f games/sec, %.1f turns/sec%n", simulation.getGamesPerSecond(),
+                simulation.getTurnsPerSecond());
+    }
+}
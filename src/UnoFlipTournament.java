@@ -0,0 +1,236 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The UnoFlipTournament class plays many independent AI vs AI games of Uno Flip in parallel and combines their
+ * results. The games are split evenly over the workers of a ForkJoinPool, each worker plays its share with its own
+ * UnoFlipSimulation and only the per-seat totals are merged at the end, so throughput scales with the number of cores.
+ * Every game owns its own UnoFlipModel, Deck, players, card side and TurnSequence handlers, nothing is shared between
+ * games.
+ * Each worker's games are drawn from its own seed, split from the tournament's seed, so the workers never share a
+ * random generator and a tournament with the same seed and parallelism plays the same games.
+ *
+ * Date: 2026-10-17
+ */
+public class UnoFlipTournament {
+    private final int numPlayers;
+    private final AIStrategy[] strategies;  // strategy of the bot in each seat, shared by every worker
+    private final int parallelism;
+    private final SplittableRandom seeds;   // hands out the seed of each worker
+    private final long[] wins;      // number of games won by each seat
+    private final long[] scores;    // sum of Player.getPlayerScore for each seat
+    private long gamesPlayed;
+    private long gamesUnfinished;
+    private long turnsPlayed;
+    private long elapsedNanos;
+
+    /**
+     * Constructs a tournament that uses every available core.
+     * @param numPlayers The number of AI players in each game (between 2-12)
+     */
+    public UnoFlipTournament(int numPlayers) {
+        this(numPlayers, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a tournament.
+     * @param numPlayers The number of AI players in each game (between 2-12)
+     * @param parallelism The number of games to play at the same time
+     * @throws IllegalArgumentException if the number of players or the parallelism is invalid
+     */
+    public UnoFlipTournament(int numPlayers, int parallelism) {
+        this(numPlayers, parallelism, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a tournament whose games are drawn from a seed.
+     * @param numPlayers The number of AI players in each game (between 2-12)
+     * @param parallelism The number of games to play at the same time
+     * @param seed The seed the seeds of the games are drawn from
+     * @throws IllegalArgumentException if the number of players or the parallelism is invalid
+     */
+    public UnoFlipTournament(int numPlayers, int parallelism, long seed) {
+        this(UnoFlipSimulation.defaultStrategies(numPlayers), parallelism, seed);
+    }
+
+    /**
+     * Constructs a tournament between strategies, one AI player per strategy seated in the order of the strategies.
+     * The strategies are shared by every worker, so they must be safe to use from several threads (see AIStrategy).
+     * @param strategies The strategy of the AI player in each seat (between 2-12 of them)
+     * @param parallelism The number of games to play at the same time
+     * @param seed The seed the seeds of the games are drawn from
+     * @throws IllegalArgumentException if the number of strategies or the parallelism is invalid
+     */
+    public UnoFlipTournament(AIStrategy[] strategies, int parallelism, long seed) {
+        int numPlayers = strategies.length;
+        if (numPlayers < UnoFlipSimulation.MIN_PLAYERS || numPlayers > UnoFlipSimulation.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Number of players must be between 2-12");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.numPlayers = numPlayers;
+        this.parallelism = parallelism;
+        this.wins = new long[numPlayers];
+        this.scores = new long[numPlayers];
+        this.strategies = strategies.clone();
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Plays the given number of games spread over the workers and adds them to the tournament's totals.
+     * @param numGames The number of games to play
+     * @throws InterruptedException if interrupted while waiting for the games to finish
+     */
+    public void run(int numGames) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            // give the first (numGames % parallelism) workers one extra game
+            int gamesForWorker = numGames / parallelism + (i < numGames % parallelism ? 1 : 0);
+            long workerSeed = seeds.nextLong();
+            workers.add(() -> {
+                playGames(gamesForWorker, workerSeed);
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        try {
+            for (Future<Void> result : pool.invokeAll(workers)) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        synchronized (this) {
+            elapsedNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Plays games on the calling thread and merges their results into the tournament's totals.
+     * @param numGames The number of games to play
+     * @param seed The seed the seeds of the games are drawn from
+     */
+    private void playGames(int numGames, long seed) {
+        UnoFlipSimulation simulation = new UnoFlipSimulation(strategies, seed);
+        long[] localWins = new long[numPlayers];
+        long[] localScores = new long[numPlayers];
+
+        for (int i = 0; i < numGames; i++) {
+            UnoFlipModel model = simulation.playGame();
+            if (model.isWinner()) {
+                localWins[model.getCurrentTurn()]++;    // the winner is the player whose turn it was
+            }
+            for (int seat = 0; seat < numPlayers; seat++) {
+                localScores[seat] += model.getPlayers().get(seat).getPlayerScore();
+            }
+        }
+
+        synchronized (this) {
+            for (int seat = 0; seat < numPlayers; seat++) {
+                wins[seat] += localWins[seat];
+                scores[seat] += localScores[seat];
+            }
+            gamesPlayed += simulation.getGamesPlayed();
+            gamesUnfinished += simulation.getGamesUnfinished();
+            turnsPlayed += simulation.getTurnsPlayed();
+        }
+    }
+
+    /**
+     * Returns the fraction of all played games won by a seat.
+     * @param seat The 0-indexed seat of the player
+     * @return The seat's win rate between 0 and 1
+     */
+    public synchronized double getWinRate(int seat) {
+        return gamesPlayed == 0 ? 0 : (double) wins[seat] / gamesPlayed;
+    }
+
+    /**
+     * Returns the number of games won by a seat.
+     * @param seat The 0-indexed seat of the player
+     * @return The number of games won
+     */
+    public synchronized long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Returns the sum of the scores earned by a seat over all games.
+     * @param seat The 0-indexed seat of the player
+     * @return The total score
+     */
+    public synchronized long getTotalScore(int seat) {
+        return scores[seat];
+    }
+
+    /**
+     * Returns the number of games played so far.
+     * @return The number of games played
+     */
+    public synchronized long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Returns the number of games that ended without a winner.
+     * @return The number of unfinished games
+     */
+    public synchronized long getGamesUnfinished() {
+        return gamesUnfinished;
+    }
+
+    /**
+     * Returns the total number of turns played over all games.
+     * @return The number of turns played
+     */
+    public synchronized long getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Returns the number of games played per second of wall clock time.
+     * @return games per second
+     */
+    public synchronized double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : gamesPlayed * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Runs a tournament and prints the standings.
+     * Usage: java UnoFlipTournament [numGames] [numPlayers] [parallelism] [greedySeats]
+     * @param args optional number of games (default 100000), players (default 4), parallelism (default all cores)
+     *             and number of seats, starting from the first, whose bots play GreedyAIStrategy (default 0)
+     * @throws InterruptedException if interrupted while waiting for the games to finish
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int numGames = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int greedySeats = args.length > 3 ? Integer.parseInt(args[3]) : 0;   // the first seats play GreedyAIStrategy
+
+        AIStrategy[] strategies = UnoFlipSimulation.defaultStrategies(numPlayers);
+        for (int seat = 0; seat < Math.min(greedySeats, numPlayers); seat++) {
+            strategies[seat] = new GreedyAIStrategy();
+        }
+        UnoFlipTournament tournament = new UnoFlipTournament(strategies, parallelism, new SplittableRandom().nextLong());
+        tournament.run(numGames);
+
+        System.out.printf("%d games (%d unfinished), %d players, %d threads, %.1f games/sec%n",
+                tournament.getGamesPlayed(), tournament.getGamesUnfinished(), numPlayers, parallelism,
+                tournament.getGamesPerSecond());
+        for (int seat = 0; seat < numPlayers; seat++) {
+            System.out.printf("Seat %d: %.2f%% wins, total score %d%n", seat + 1, tournament.getWinRate(seat) * 100,
+                    tournament.getTotalScore(seat));
+        }
+    }
+}
@@ -2,9 +2,10 @@ import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 
 /**
@@ -26,7 +27,13 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
     private JMenuItem replay;
     private JMenuItem save;
     private JMenuItem load;
-    private HashMap<String,ImageIcon> imageIconHashMap;
+    private JCheckBoxMenuItem fastForward;
+    private HashMap<String,ImageIcon> imageIconHashMap;     // card image name -> icon scaled to the card size
+    private ArrayList<JButton> handButtons;     // card buttons, the first handCards.size() are in handPanel
+    private ArrayList<Card> handCards;          // card shown by each button in handPanel
+    private boolean handSide;                   // side of the cards shown in handPanel
+    public final static int CARD_WIDTH = 200;
+    public final static int CARD_HEIGHT = 300;
     public final static String DRAW_CMD = "draw";
     public final static String NEXT_CMD = "next";
     public final static String START_CMD = "start";
@@ -35,6 +42,7 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
     public final static String REPLAY_CMD = "replay";
     public final static String SAVE_CMD = "save";
     public final static String LOAD_CMD = "load";
+    public final static String FAST_FORWARD_CMD = "fastForward";
     public final static String WILD_CMD = "wild";
     public final static String CHALLENGE_CMD = "challenge";
 
@@ -42,9 +50,12 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
     public UnoFlipViewFrame() {
         super("Uno Flip!");
         this.setLayout(new BorderLayout(20,50));
+        imageIconHashMap = new HashMap<>();
+        handButtons = new ArrayList<>();
+        handCards = new ArrayList<>();
 
         UnoFlipModel model = new UnoFlipModel();
-        model.addUnoFlipView(this);
+        model.addUnoFlipView(this, SwingUtilities::invokeLater);   // render on the EDT, never in the middle of a turn
         controller = new UnoFlipController(model);
 
         // make a panel to display info on the current turn
@@ -59,6 +70,7 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
         replay = new JMenuItem("Replay");
         save = new JMenuItem("Save");
         load = new JMenuItem("Load");
+        fastForward = new JCheckBoxMenuItem("Fast-forward AI turns");
 
         undo.setEnabled(false);
         redo.setEnabled(false);
@@ -68,18 +80,22 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
         replay.setActionCommand(REPLAY_CMD);
         save.setActionCommand(SAVE_CMD);
         load.setActionCommand(LOAD_CMD);
+        fastForward.setActionCommand(FAST_FORWARD_CMD);
 
         undo.addActionListener(controller);
         redo.addActionListener(controller);
         replay.addActionListener(controller);
         save.addActionListener(controller);
         load.addActionListener(controller);
+        fastForward.addActionListener(controller);
 
         menu.add(undo);
         menu.add(redo);
         menu.add(replay);
         menu.add(save);
         menu.add(load);
+        menu.addSeparator();
+        menu.add(fastForward);
         menuBar.add(menu);
         this.setJMenuBar(menuBar);
 
@@ -236,11 +252,15 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
         }
 
         // check wild to select colour
-        if(e.getStatus().equals(Card.Colour.RED.toString()) || e.getStatus().equals(Card.Colour.BLUE.toString()) || e.getStatus().equals(Card.Colour.YELLOW.toString()) || e.getStatus().equals(Card.Colour.GREEN.toString())){
-            statusArea.append("\nSelected Colour: " + e.getStatus());
-        } else if (e.getStatus().startsWith("WINNER:")) {
+        if (e.getStatus() == UnoFlipEvent.Status.COLOUR_SELECTED) {
+            if (e.getCurrColour() == Card.Colour.WILD || e.getCurrColour() == Card.Colour.WILD_DARK) {
+                statusArea.append("\nSelecting Colour...");
+            } else {
+                statusArea.append("\nSelected Colour: " + e.getCurrColour());
+            }
+        } else if (e.getStatus() == UnoFlipEvent.Status.WINNER) {
 
-            JOptionPane.showMessageDialog(this, e.getStatus(), "WINNER WINNER CHICKEN DINNER", JOptionPane.WARNING_MESSAGE);
+            JOptionPane.showMessageDialog(this, e.getMessage(), "WINNER WINNER CHICKEN DINNER", JOptionPane.WARNING_MESSAGE);
             //show player scores
             for(int i =0; i < e.getPlayersScores().size(); i ++){
                 statusArea.append(e.getPlayersScores().get(i)+ "\n");
@@ -248,55 +268,115 @@ public class UnoFlipViewFrame extends JFrame implements UnoFlipView {
             //disable buttons
             drawCard.setEnabled(false);
             nextTurn.setEnabled(false);
-            handPanel.removeAll();
-            this.repaint();
+            showHand(List.of(), e.getCardSide(), false);
 
-        } else if (e.getStatus().equals("WILD") || e.getStatus().equals("WILD_DRAW_2")){
-            statusArea.append("\nSelecting Colour...");
         } else {
-            statusArea.append(e.getStatus());
+            statusArea.append(e.getMessage());
         }
 
         //display cards since there are still cards in current player's hand
-        if( !e.getStatus().startsWith("WINNER:")) {
+        if (e.getStatus() != UnoFlipEvent.Status.WINNER) {
             drawCard.setEnabled(true);
             nextTurn.setEnabled(true);
             // update the hand panel with the new hand's cards
-            handPanel.removeAll();  // remove current hand, about to replace with new one
-            String currHand = e.getCurrHand();
-            String[] currHandArray = currHand.split(" ");
+            showHand(e.getCurrHand(), e.getCardSide(), !(e.getTurnFinished() || e.getIsAI()));
 
+            // update the top card
+            String topCardName = e.getTopCard().toString(e.getCardSide());
+            topCardLabel.setIcon(getCardIcon(topCardName));
+            topCardNameLabel.setText(topCardName);
+            topCardNameLabel.setFont(new Font("Dialog", Font.PLAIN, 18));
 
-            if(!(currHandArray[0] == "")){
-                for (int i = 0; i < currHandArray.length; i++) {
+            // update the current player
+            currPlayerLabel.setText("Current player: " + e.getCurrPlayerName());
+            currPlayerLabel.setFont(new Font("Dialog", Font.PLAIN, 18));
+        }
 
-                    JButton newCard = new JButton();
-                    newCard.setPreferredSize(new Dimension(200, 300));
-                    newCard.setIcon(new ImageIcon(getClass().getResource("images/" + currHandArray[i] + ".png")));
-                    newCard.setActionCommand(Integer.toString(i));  // each card's action command is based on their hand index
-                    newCard.addActionListener(controller);
+    }
 
-                    if (e.getTurnFinished() || e.getIsAI()) {
-                        newCard.setEnabled(false);
-                    }
-                    handPanel.add(newCard);
-                }
-            }
+    /**
+     * Shows a hand in the hand panel, reusing the card buttons already there. Only the buttons whose card changed get
+     * a new icon, and buttons are only added to or removed from the panel when the size of the hand changes.
+     *
+     * @param cards The cards in the hand
+     * @param side The side of the cards that is face up
+     * @param enabled true if the cards can be played
+     */
+    private void showHand(List<Card> cards, boolean side, boolean enabled) {
+        int shown = handCards.size();
 
+        // remove the buttons of cards that are no longer in the hand
+        for (int i = shown - 1; i >= cards.size(); i--) {
+            handPanel.remove(i);
+            handCards.remove(i);
+        }
 
+        for (int i = 0; i < cards.size(); i++) {
+            if (i >= handButtons.size()) {
+                JButton newCard = new JButton();
+                newCard.setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
+                newCard.setActionCommand(Integer.toString(i));  // each card's action command is based on their hand index
+                newCard.addActionListener(controller);
+                handButtons.add(newCard);
+            }
+            JButton card = handButtons.get(i);
+            if (i >= shown) {
+                handPanel.add(card);
+                handCards.add(null);
+            }
+            if (side != handSide || !cards.get(i).equals(handCards.get(i))) {
+                card.setIcon(getCardIcon(cards.get(i).toString(side)));
+                handCards.set(i, cards.get(i));
+            }
+            card.setEnabled(enabled);
+        }
+        handSide = side;
 
-            this.repaint();  // prevent visual bug by resetting the frame
+        if (cards.size() != shown) {
+            handPanel.revalidate();
+            handPanel.repaint();    // clear the space left by removed cards
+        }
+    }
 
-            // update the top card
-            topCardLabel.setIcon(new ImageIcon(getClass().getResource("images/" + e.getTopCard() + ".png")));
-            topCardNameLabel.setText(e.getTopCard());
-            topCardNameLabel.setFont(new Font("Dialog", Font.PLAIN, 18));
+    /**
+     * Returns the icon of a card. Each image is read and scaled only the first time it is shown, later calls return
+     * the same icon, so redrawing a hand does not go back to the class loader or the PNG decoder.
+     *
+     * @param cardName The name of the card's image (see Card.toString)
+     * @return the card's icon, scaled to fit CARD_WIDTH x CARD_HEIGHT
+     */
+    private ImageIcon getCardIcon(String cardName) {
+        ImageIcon icon = imageIconHashMap.get(cardName);
+        if (icon == null) {
+            icon = scaleToCard(new ImageIcon(getClass().getResource("images/" + cardName + ".png")));
+            imageIconHashMap.put(cardName, icon);
+        }
+        return icon;
+    }
 
-            // update the current player
-            currPlayerLabel.setText("Current player: " + e.getCurrPlayerName());
-            currPlayerLabel.setFont(new Font("Dialog", Font.PLAIN, 18));
+    /**
+     * Scales an icon to fit CARD_WIDTH x CARD_HEIGHT, keeping its proportions. The scaled image is drawn once into
+     * a BufferedImage so that painting the icon never scales it again.
+     *
+     * @param icon The icon as read from its file
+     * @return the scaled icon, or the icon itself if it already fits exactly
+     */
+    private static ImageIcon scaleToCard(ImageIcon icon) {
+        int width = icon.getIconWidth();
+        int height = icon.getIconHeight();
+        double scale = Math.min((double) CARD_WIDTH / width, (double) CARD_HEIGHT / height);
+        int scaledWidth = (int) Math.round(width * scale);
+        int scaledHeight = (int) Math.round(height * scale);
+        if (scaledWidth == width && scaledHeight == height) {
+            return icon;
         }
 
+        BufferedImage scaled = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(icon.getImage(), 0, 0, scaledWidth, scaledHeight, null);
+        g.dispose();
+        return new ImageIcon(scaled);
     }
 
     public static void main(String[] args) {
@@ -10,7 +10,7 @@ public class WildDrawColour extends TurnSequence {
         unoFlipModel.setTopCard(card);
         unoFlipModel.setCurrentColour(Card.Colour.WILD_DARK);
         unoFlipModel.setCurrentRank(Card.Rank.WILD_DRAW_COLOUR);
-        unoFlipModel.setStatus(UnoFlipModel.STATUS_CHALLENGE_MESSAGE);
+        unoFlipModel.setStatus(UnoFlipEvent.Status.CHALLENGE, UnoFlipModel.STATUS_CHALLENGE_MESSAGE);
         unoFlipModel.setSkipTurnFlag();
     }
 }
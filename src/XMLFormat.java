@@ -0,0 +1,83 @@
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * XMLFormat holds the helpers shared by the classes that write themselves as XML (Card, Hand, Deck, Player, AI and
+ * UnoFlipModel). The indentation strings are built once, so writing a card no longer rebuilds its tabs, and the
+ * toXML methods are thin wrappers around the streaming writeXML methods.
+ *
+ * Date: 2026-10-17
+ */
+public final class XMLFormat {
+    private static final int PRECOMPUTED_TABS = 16;    // deeper than any element written by the game
+    private static final String[] TABS = new String[PRECOMPUTED_TABS];
+
+    static {
+        StringBuilder tabs = new StringBuilder();
+        for (int i = 0; i < PRECOMPUTED_TABS; i++) {
+            TABS[i] = tabs.toString();
+            tabs.append('\t');
+        }
+    }
+
+    /**
+     * Writes XML to a Writer.
+     */
+    @FunctionalInterface
+    public interface Writing {
+        /**
+         * Writes the XML.
+         * @param out The Writer to write to
+         * @throws IOException if the Writer fails
+         */
+        void writeTo(Writer out) throws IOException;
+    }
+
+    private XMLFormat() {
+    }
+
+    /**
+     * Returns a string of tabs.
+     * @param numTabs The number of tabs
+     * @return the tabs
+     */
+    public static String tabs(int numTabs) {
+        return numTabs < PRECOMPUTED_TABS ? TABS[numTabs] : "\t".repeat(numTabs);
+    }
+
+    /**
+     * Writes a one line element followed by a new line, e.g. tabs + "<name>value</name>\n".
+     * @param out The Writer to write to
+     * @param tabs The indentation of the element
+     * @param name The name of the element
+     * @param value The content of the element
+     * @throws IOException if the Writer fails
+     */
+    public static void writeElement(Writer out, String tabs, String name, Object value) throws IOException {
+        out.write(tabs);
+        out.write('<');
+        out.write(name);
+        out.write('>');
+        out.write(String.valueOf(value));
+        out.write("</");
+        out.write(name);
+        out.write(">\n");
+    }
+
+    /**
+     * Collects the XML written by a streaming writer into a String.
+     * @param writing Writes the XML
+     * @return the XML
+     */
+    public static String toString(Writing writing) {
+        StringWriter xml = new StringWriter();
+        try {
+            writing.writeTo(xml);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);     // a StringWriter never fails
+        }
+        return xml.toString();
+    }
+}
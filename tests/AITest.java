@@ -0,0 +1,98 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AITest {
+    private static final int DRAW = -1;
+
+    private AI ai;
+    private Card wild;
+    private Card redOne;
+    private Card blueFive;
+    private Card redSkip;
+
+    @Before
+    public void setUp() {
+        ai = new AI();
+        wild = Card.valueOf(Card.Rank.WILD, Card.Colour.WILD, Card.Rank.WILD, Card.Colour.WILD_DARK);
+        redOne = Card.valueOf(Card.Rank.ONE, Card.Colour.RED, Card.Rank.ONE, Card.Colour.ORANGE);
+        blueFive = Card.valueOf(Card.Rank.FIVE, Card.Colour.BLUE, Card.Rank.SKIP_EVERYONE, Card.Colour.PINK);
+        redSkip = Card.valueOf(Card.Rank.SKIP, Card.Colour.RED, Card.Rank.FLIP, Card.Colour.PINK);
+    }
+
+    @Test
+    public void testPlayAICardEmptyHand() {
+        assertEquals(DRAW, ai.playAICard(Card.Colour.RED, Card.Rank.ONE, Card.LIGHT));
+    }
+
+    @Test
+    public void testPlayAICardFirstMatch() {
+        ai.addCardToHand(wild);
+        ai.addCardToHand(blueFive);
+        ai.addCardToHand(redOne);
+        ai.addCardToHand(redSkip);
+
+        // the first card matching the colour or the rank is played before any wild card
+        assertEquals(2, ai.playAICard(Card.Colour.RED, Card.Rank.NINE, Card.LIGHT));
+        assertEquals(1, ai.playAICard(Card.Colour.GREEN, Card.Rank.FIVE, Card.LIGHT));
+        assertEquals(1, ai.playAICard(Card.Colour.PINK, Card.Rank.FLIP, Card.DARK));
+
+        // duplicates of a card do not change the choice
+        ai.addCardToHand(redOne);
+        assertEquals(2, ai.playAICard(Card.Colour.YELLOW, Card.Rank.ONE, Card.LIGHT));
+    }
+
+    @Test
+    public void testPlayAICardWild() {
+        ai.addCardToHand(blueFive);
+        ai.addCardToHand(wild);
+        ai.addCardToHand(wild);
+        assertEquals(1, ai.playAICard(Card.Colour.YELLOW, Card.Rank.NINE, Card.LIGHT));
+        assertEquals(1, ai.playAICard(Card.Colour.TEAL, Card.Rank.DRAW_FIVE, Card.DARK));
+    }
+
+    @Test
+    public void testPlayAICardDraw() {
+        ai.addCardToHand(blueFive);
+        ai.addCardToHand(redOne);
+        assertEquals(DRAW, ai.playAICard(Card.Colour.YELLOW, Card.Rank.NINE, Card.LIGHT));
+        assertEquals(DRAW, ai.playAICard(Card.Colour.PURPLE, Card.Rank.DRAW_FIVE, Card.DARK));
+    }
+
+    @Test
+    public void testStrategy() {
+        AI greedy = new AI(new GreedyAIStrategy());
+        assertTrue(greedy.getStrategy() instanceof GreedyAIStrategy);
+        assertTrue(ai.getStrategy() instanceof DefaultAIStrategy);
+        assertSame(greedy.getStrategy(), greedy.copy().getStrategy());
+
+        // the greedy bot plays the matching card worth the most points and picks the colour of its best card
+        greedy.addCardToHand(redOne);
+        greedy.addCardToHand(wild);
+        greedy.addCardToHand(redSkip);
+        greedy.addCardToHand(blueFive);
+        assertEquals(2, greedy.playAICard(Card.Colour.RED, Card.Rank.ONE, Card.LIGHT));
+        assertEquals(3, greedy.playAICard(Card.Colour.BLUE, Card.Rank.ONE, Card.LIGHT));
+        assertEquals(1, greedy.playAICard(Card.Colour.YELLOW, Card.Rank.NINE, Card.LIGHT));
+        assertEquals(Card.Colour.RED, greedy.wildPickColour(Card.LIGHT));
+        assertEquals(Card.Colour.PINK, greedy.wildPickColour(Card.DARK));
+    }
+
+    @Test
+    public void testWildPickColour() {
+        // default colours when the bot only has wild cards
+        ai.addCardToHand(wild);
+        assertEquals(Card.Colour.RED, ai.wildPickColour(Card.LIGHT));
+        assertEquals(Card.Colour.TEAL, ai.wildPickColour(Card.DARK));
+
+        // the most common colour, never a wild colour, and the first colour on ties
+        ai.addCardToHand(wild);
+        ai.addCardToHand(blueFive);
+        ai.addCardToHand(redOne);
+        assertEquals(Card.Colour.RED, ai.wildPickColour(Card.LIGHT));
+        assertEquals(Card.Colour.PINK, ai.wildPickColour(Card.DARK));
+        ai.addCardToHand(blueFive);
+        assertEquals(Card.Colour.BLUE, ai.wildPickColour(Card.LIGHT));
+    }
+}
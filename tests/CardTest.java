@@ -9,6 +9,7 @@ public class CardTest {
     private Card drawDrawOneOrFiveCard;
     private Card wildCard;
     private Card wildDrawTwoColourCard;
+    private boolean side;   // side of the cards that is face up
 
 
     @Before
@@ -17,9 +18,7 @@ public class CardTest {
         drawDrawOneOrFiveCard = new Card(Card.Rank.DRAW_ONE, Card.Colour.BLUE, Card.Rank.DRAW_FIVE, Card.Colour.PINK);
         wildCard = new Card(Card.Rank.WILD, Card.Colour.WILD, Card.Rank.WILD, Card.Colour.WILD_DARK);
         wildDrawTwoColourCard = new Card(Card.Rank.WILD_DRAW_2, Card.Colour.WILD, Card.Rank.WILD_DRAW_COLOUR, Card.Colour.WILD_DARK);
-        if (Card.getSide() == Card.DARK) {
-            Card.flipSide();    // always start a test on light side
-        }
+        side = Card.LIGHT;  // always start a test on light side
     }
 
     @Test
@@ -29,9 +28,40 @@ public class CardTest {
                                 "<lightColour>" + numberCard.getLightColour() + "</lightColour>\n\t\t" +
                                 "<darkRank>" + numberCard.getDarkRank() + "</darkRank>\n\t\t" +
                                 "<darkColour>" + numberCard.getDarkColour() + "</darkColour>\n\t\t" +
-                                "<side>" + Card.getSide() + "</side>\n\t" +
+                                "<side>" + side + "</side>\n\t" +
                                 "</Card>";
-        assertEquals(expectedXML, numberCard.toXML(1)); // 1 tab length as base tab length
+        assertEquals(expectedXML, numberCard.toXML(1, side)); // 1 tab length as base tab length
+    }
+
+    @Test
+    public void testCode() {
+        for (Card card : new Card[]{numberCard, drawDrawOneOrFiveCard, wildCard, wildDrawTwoColourCard}) {
+            assertTrue(card.getCode() >>> Card.CODE_BITS == 0);
+            assertEquals(card, Card.fromCode(card.getCode()));
+        }
+        assertNotEquals(numberCard.getCode(), drawDrawOneOrFiveCard.getCode());
+    }
+
+    @Test
+    public void testCodeHelpers() {
+        int code = drawDrawOneOrFiveCard.getCode();
+        assertEquals(Card.Rank.DRAW_ONE.ordinal(), Card.rankOf(code, Card.LIGHT));
+        assertEquals(Card.Colour.BLUE.ordinal(), Card.colourOf(code, Card.LIGHT));
+        assertEquals(Card.Rank.DRAW_FIVE.ordinal(), Card.rankOf(code, Card.DARK));
+        assertEquals(Card.Colour.PINK.ordinal(), Card.colourOf(code, Card.DARK));
+        assertTrue(Card.matches(code, Card.DARK, -1, Card.Colour.PINK.ordinal()));
+        assertFalse(Card.matches(code, Card.LIGHT, -1, Card.Colour.PINK.ordinal()));
+        assertTrue(Card.isWild(wildDrawTwoColourCard.getCode()));
+        assertFalse(Card.isWild(code));
+    }
+
+    @Test
+    public void testValueOf() {
+        Card card = Card.valueOf(Card.Rank.FIVE, Card.Colour.GREEN, Card.Rank.FIVE, Card.Colour.TEAL);
+        assertSame(card, Card.valueOf(Card.Rank.FIVE, Card.Colour.GREEN, Card.Rank.FIVE, Card.Colour.TEAL));
+        assertSame(card, Card.fromCode(numberCard.getCode()));
+        assertEquals(numberCard, card);
+        assertNotSame(card, Card.valueOf(Card.Rank.FIVE, Card.Colour.GREEN, Card.Rank.SIX, Card.Colour.TEAL));
     }
 
     @Test
@@ -40,7 +70,7 @@ public class CardTest {
         assertFalse(drawDrawOneOrFiveCard.isWild());
         assertTrue(wildCard.isWild());
         assertTrue(wildDrawTwoColourCard.isWild());
-        Card.flipSide();    // test dark side as well
+        side = !side;    // test dark side as well
         assertFalse(numberCard.isWild());
         assertFalse(drawDrawOneOrFiveCard.isWild());
         assertTrue(wildCard.isWild());
@@ -49,45 +79,45 @@ public class CardTest {
 
     @Test
     public void testGetColour() {
-        assertEquals(Card.Colour.GREEN, numberCard.getColour());
-        assertEquals(Card.Colour.BLUE, drawDrawOneOrFiveCard.getColour());
-        assertEquals(Card.Colour.WILD, wildCard.getColour());
-        assertEquals(Card.Colour.WILD, wildDrawTwoColourCard.getColour());
-        Card.flipSide();    // test dark side as well
-        assertEquals(Card.Colour.TEAL, numberCard.getColour());
-        assertEquals(Card.Colour.PINK, drawDrawOneOrFiveCard.getColour());
-        assertEquals(Card.Colour.WILD_DARK, wildCard.getColour());
-        assertEquals(Card.Colour.WILD_DARK, wildDrawTwoColourCard.getColour());
+        assertEquals(Card.Colour.GREEN, numberCard.getColour(side));
+        assertEquals(Card.Colour.BLUE, drawDrawOneOrFiveCard.getColour(side));
+        assertEquals(Card.Colour.WILD, wildCard.getColour(side));
+        assertEquals(Card.Colour.WILD, wildDrawTwoColourCard.getColour(side));
+        side = !side;    // test dark side as well
+        assertEquals(Card.Colour.TEAL, numberCard.getColour(side));
+        assertEquals(Card.Colour.PINK, drawDrawOneOrFiveCard.getColour(side));
+        assertEquals(Card.Colour.WILD_DARK, wildCard.getColour(side));
+        assertEquals(Card.Colour.WILD_DARK, wildDrawTwoColourCard.getColour(side));
     }
 
     @Test
     public void testGetRank() {
-        assertEquals(Card.Rank.FIVE, numberCard.getRank());
-        assertEquals(Card.Rank.DRAW_ONE, drawDrawOneOrFiveCard.getRank());
-        assertEquals(Card.Rank.WILD, wildCard.getRank());
-        assertEquals(Card.Rank.WILD_DRAW_2, wildDrawTwoColourCard.getRank());
-        Card.flipSide();    // test dark side as well
-        assertEquals(Card.Rank.FIVE, numberCard.getRank());
-        assertEquals(Card.Rank.DRAW_FIVE, drawDrawOneOrFiveCard.getRank());
-        assertEquals(Card.Rank.WILD, wildCard.getRank());
-        assertEquals(Card.Rank.WILD_DRAW_COLOUR, wildDrawTwoColourCard.getRank());
+        assertEquals(Card.Rank.FIVE, numberCard.getRank(side));
+        assertEquals(Card.Rank.DRAW_ONE, drawDrawOneOrFiveCard.getRank(side));
+        assertEquals(Card.Rank.WILD, wildCard.getRank(side));
+        assertEquals(Card.Rank.WILD_DRAW_2, wildDrawTwoColourCard.getRank(side));
+        side = !side;    // test dark side as well
+        assertEquals(Card.Rank.FIVE, numberCard.getRank(side));
+        assertEquals(Card.Rank.DRAW_FIVE, drawDrawOneOrFiveCard.getRank(side));
+        assertEquals(Card.Rank.WILD, wildCard.getRank(side));
+        assertEquals(Card.Rank.WILD_DRAW_COLOUR, wildDrawTwoColourCard.getRank(side));
     }
 
     @Test
     public void testToString() {
         Card flipCard = new Card(Card.Rank.FLIP, Card.Colour.GREEN, Card.Rank.FLIP, Card.Colour.TEAL);
 
-        assertEquals("green_flip", flipCard.toString());
-        assertEquals("green_5", numberCard.toString());
-        assertEquals("blue_draw_1", drawDrawOneOrFiveCard.toString());
-        assertEquals("wild_card", wildCard.toString());
-        assertEquals("wild_draw_2", wildDrawTwoColourCard.toString());
-        Card.flipSide();    // test dark side as well
-        assertEquals("teal_flip", flipCard.toString());
-        assertEquals("teal_5", numberCard.toString());
-        assertEquals("pink_draw_5", drawDrawOneOrFiveCard.toString());
-        assertEquals("wild_dark_card", wildCard.toString());
-        assertEquals("wild_draw_colour", wildDrawTwoColourCard.toString());
+        assertEquals("green_flip", flipCard.toString(side));
+        assertEquals("green_5", numberCard.toString(side));
+        assertEquals("blue_draw_1", drawDrawOneOrFiveCard.toString(side));
+        assertEquals("wild_card", wildCard.toString(side));
+        assertEquals("wild_draw_2", wildDrawTwoColourCard.toString(side));
+        side = !side;    // test dark side as well
+        assertEquals("teal_flip", flipCard.toString(side));
+        assertEquals("teal_5", numberCard.toString(side));
+        assertEquals("pink_draw_5", drawDrawOneOrFiveCard.toString(side));
+        assertEquals("wild_dark_card", wildCard.toString(side));
+        assertEquals("wild_draw_colour", wildDrawTwoColourCard.toString(side));
     }
 
     @Test
@@ -103,7 +133,7 @@ public class CardTest {
         assertEquals(sameAsWildDrawTwoColourCard, wildDrawTwoColourCard);
         assertNotEquals(sameAsDrawDrawOneOrFiveCard, numberCard);
         assertNotEquals(sameAsWildCard, wildDrawTwoColourCard);
-        Card.flipSide();    // test with dark side as well
+        side = !side;    // test with dark side as well
         assertEquals(sameAsNumberCard, numberCard);
         assertEquals(sameAsDrawDrawOneOrFiveCard, drawDrawOneOrFiveCard);
         assertEquals(sameAsWildCard, wildCard);
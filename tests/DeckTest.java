@@ -99,4 +99,78 @@ public class DeckTest {
         assertThrows(NullPointerException.class, () -> {deck.putCard(null);});  // cannot put null in deck
         assertEquals(MAX_SIZE, deck.size());
     }
+
+    @Test
+    public void testCardCounts() {
+        Card card1;
+        Card card2;
+        do {    // the checks below need two different cards
+            deck = new Deck();
+            deck.initStartingDeck();
+            card1 = deck.takeCard();
+            card2 = deck.takeCard();
+        } while (card2.equals(card1));
+        assertEquals(2, deck.getInPlay().size());
+
+        deck.putCard(card1);
+        assertEquals(1, deck.getInPlay().size());
+        assertEquals(card2, deck.getInPlay().get(0));
+        assertEquals(card1, deck.getDiscard().get(0));
+
+        // every copy of card1 is already in the deck or held by players
+        Card discarded = card1;
+        assertThrows(IllegalArgumentException.class, () -> {deck.putCard(discarded);});
+        assertEquals(1, deck.getDiscard().size());
+
+        // the copy keeps its own counts
+        Deck copy = new Deck(deck);
+        copy.putCard(card2);
+        assertEquals(0, copy.getInPlay().size());
+        assertEquals(1, deck.getInPlay().size());
+    }
+
+    @Test
+    public void testReshuffleDiscard() {
+        deck.initStartingDeck();
+        for (int i = 0; i < MAX_SIZE - 2; i++) {
+            deck.takeCard();
+        }
+        deck.putCard(deck.takeCard());
+        deck.putCard(deck.takeCard());     // the deck was empty and reshuffled the single discarded card
+        assertEquals(1, deck.size());
+        assertEquals(1, deck.getDiscard().size());
+
+        deck.takeCard();    // the last discarded card becomes the new deck
+        assertEquals(1, deck.size());
+        assertEquals(0, deck.getDiscard().size());
+        deck.takeCard();
+        assertEquals(0, deck.size());
+        assertThrows(java.util.EmptyStackException.class, () -> {deck.takeCard();});
+        assertEquals(MAX_SIZE, deck.getInPlay().size());
+    }
+
+    @Test
+    public void testSeededShuffle() {
+        // decks shuffled with the same seed are in the same order, including after the discard pile is reshuffled
+        Deck deck1 = new Deck(new java.util.SplittableRandom(1234));
+        Deck deck2 = new Deck(new java.util.SplittableRandom(1234));
+        deck1.initStartingDeck();
+        deck2.initStartingDeck();
+        assertEquals(deck1.getDeck(), deck2.getDeck());
+        for (int i = 0; i < MAX_SIZE; i++) {
+            deck1.putCard(deck1.takeCard());
+            deck2.putCard(deck2.takeCard());
+        }
+        assertEquals(deck1.getDeck(), deck2.getDeck());
+
+        // a copy keeps shuffling with the generator it is given
+        Deck copy1 = new Deck(deck1, new java.util.SplittableRandom(99));
+        Deck copy2 = new Deck(deck1, new java.util.SplittableRandom(99));
+        assertEquals(deck1.getDeck(), copy1.getDeck());
+        for (int i = 0; i < MAX_SIZE; i++) {
+            copy1.putCard(copy1.takeCard());
+            copy2.putCard(copy2.takeCard());
+        }
+        assertEquals(copy1.getDeck(), copy2.getDeck());
+    }
 }
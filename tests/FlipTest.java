@@ -27,7 +27,7 @@ public class FlipTest {
         // don't have the other turnSeqs added yet to model so have index as 15 instead of 18
         assertTrue(unoFlipModel.getTurnDirection());
         assertEquals(testCard, unoFlipModel.getTopCard()); // make sure the testCard is on top
-        assertEquals(Card.DARK,Card.getSide()); // make sure side was flipped in card class
+        assertEquals(Card.DARK, unoFlipModel.getCardSide()); // make sure side was flipped in the game
         assertEquals(Card.Colour.ORANGE, unoFlipModel.getCurrentColour()); // check to see if card was flipped
         assertEquals(Card.Rank.FLIP, unoFlipModel.getCurrentRank());
         assertEquals(0, unoFlipModel.getCurrentTurn()); //make sure nothing else was touched
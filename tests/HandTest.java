@@ -90,16 +90,16 @@ public class HandTest {
     public void testColourInHand(){
         hand.addCard(testCard1);
         hand.addCard(testCard2);
-        assertTrue(hand.colourInHand(Card.Colour.RED));
-        assertFalse(hand.colourInHand(Card.Colour.BLUE));
-        assertFalse(hand.colourInHand(Card.Colour.YELLOW));
-        assertFalse(hand.colourInHand(Card.Colour.GREEN));
+        assertTrue(hand.colourInHand(Card.Colour.RED, Card.LIGHT));
+        assertFalse(hand.colourInHand(Card.Colour.BLUE, Card.LIGHT));
+        assertFalse(hand.colourInHand(Card.Colour.YELLOW, Card.LIGHT));
+        assertFalse(hand.colourInHand(Card.Colour.GREEN, Card.LIGHT));
 
         hand.popCard(0);
-        assertFalse(hand.colourInHand(Card.Colour.RED));
-        assertFalse(hand.colourInHand(Card.Colour.BLUE));
-        assertFalse(hand.colourInHand(Card.Colour.YELLOW));
-        assertFalse(hand.colourInHand(Card.Colour.GREEN));
+        assertFalse(hand.colourInHand(Card.Colour.RED, Card.LIGHT));
+        assertFalse(hand.colourInHand(Card.Colour.BLUE, Card.LIGHT));
+        assertFalse(hand.colourInHand(Card.Colour.YELLOW, Card.LIGHT));
+        assertFalse(hand.colourInHand(Card.Colour.GREEN, Card.LIGHT));
 
     }
 
@@ -107,17 +107,59 @@ public class HandTest {
     public void  testGetScore(){
 
         //No cards in hand currently, score should be 0
-        assertEquals(0, hand.getScore());
+        assertEquals(0, hand.getScore(Card.LIGHT));
 
         //add two cards to the hand
         hand.addCard(testCard1); // RED ONE
         hand.addCard(testCard2); // WILD
 
-        assertEquals(51, hand.getScore());
+        assertEquals(51, hand.getScore(Card.LIGHT));
 
         //Remove card, so there is only one card in hand (Wild card in hand)
         hand.popCard(0);
 
-        assertEquals(50, hand.getScore());
+        assertEquals(50, hand.getScore(Card.LIGHT));
+    }
+
+    @Test
+    public void testHasMatch() {
+        hand.addCard(testCard2);
+        hand.addCard(testCard1);
+        assertTrue(hand.hasMatch(Card.Rank.ONE, Card.Colour.BLUE, Card.LIGHT));
+        assertTrue(hand.hasMatch(Card.Rank.NINE, Card.Colour.RED, Card.LIGHT));
+        assertFalse(hand.hasMatch(Card.Rank.NINE, Card.Colour.BLUE, Card.LIGHT));
+        assertTrue(hand.hasMatch(Card.Rank.NINE, Card.Colour.ORANGE, Card.DARK));
+        assertFalse(hand.hasMatch(Card.Rank.NINE, Card.Colour.RED, Card.DARK));
+
+        // the codes follow the cards when one is popped
+        hand.popCard(0);
+        assertEquals(testCard1.getCode(), hand.getCode(0));
+        assertFalse(hand.hasMatch(Card.Rank.WILD, null, Card.LIGHT));
+    }
+
+    @Test
+    public void testCounts() {
+        Card testCard3 = new Card(Card.Rank.SKIP, Card.Colour.RED, Card.Rank.FLIP, Card.Colour.PINK);
+        hand.addCard(testCard1);
+        hand.addCard(testCard2);
+        hand.addCard(testCard3);
+        assertEquals(2, hand.getColourCount(Card.Colour.RED, Card.LIGHT));
+        assertEquals(1, hand.getColourCount(Card.Colour.WILD_DARK, Card.DARK));
+        assertEquals(1, hand.getRankCount(Card.Rank.SKIP, Card.LIGHT));
+        assertEquals(0, hand.getRankCount(Card.Rank.SKIP, Card.DARK));
+        assertEquals(1, hand.getCount(Card.Rank.ONE, Card.Colour.RED, Card.LIGHT));
+        assertEquals(2, hand.countMatches(Card.Rank.ONE, Card.Colour.RED, Card.LIGHT));
+        assertEquals(0, hand.countMatches(null, null, Card.LIGHT));
+        assertEquals(2, hand.indexOfMatch(Card.Rank.FLIP, Card.Colour.BLUE, Card.DARK));
+        assertEquals(-1, hand.indexOfMatch(Card.Rank.NINE, Card.Colour.BLUE, Card.LIGHT));
+
+        // the counts follow the cards as they leave the hand, and copies are independent
+        Hand copy = new Hand(hand);
+        hand.popCard(0);
+        assertEquals(1, hand.getColourCount(Card.Colour.RED, Card.LIGHT));
+        assertEquals(1, hand.indexOfMatch(Card.Rank.ONE, Card.Colour.PINK, Card.DARK));
+        assertEquals(2, copy.getColourCount(Card.Colour.RED, Card.LIGHT));
+        hand.empty();
+        assertFalse(hand.colourInHand(Card.Colour.RED, Card.LIGHT));
     }
 }
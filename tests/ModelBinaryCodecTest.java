@@ -0,0 +1,90 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class ModelBinaryCodecTest {
+    private UnoFlipModel unoFlipModel;
+
+    @Before
+    public void setUp() {
+        unoFlipModel = new UnoFlipModel();
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Bobby"));
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer(new GreedyAIStrategy()));
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.setUpInitialTopCard();
+        unoFlipModel.drawNCards(3, unoFlipModel.getCurrentTurn());
+        unoFlipModel.flipCardSide();
+        unoFlipModel.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
+    }
+
+    @Test
+    public void testEncodeDecode() throws IOException {
+        ByteBuffer encoded = ModelBinaryCodec.encode(unoFlipModel.takeSnapshot());
+        assertTrue(encoded.remaining() < 500);  // a whole game in a few hundred bytes
+
+        UnoFlipModel loaded = new UnoFlipModel();
+        loaded.restoreSnapshot(ModelBinaryCodec.decode(encoded));
+        assertEquals(unoFlipModel.getCardSide(), loaded.getCardSide());
+        assertEquals(unoFlipModel.getTopCard(), loaded.getTopCard());
+        assertEquals(unoFlipModel.getCurrentColour(), loaded.getCurrentColour());
+        assertEquals(unoFlipModel.getCurrentRank(), loaded.getCurrentRank());
+        assertEquals(unoFlipModel.getStatus(), loaded.getStatus());
+        assertEquals(UnoFlipEvent.Status.DONE, loaded.getStatusType());
+        assertEquals(unoFlipModel.getDeck().getDeck(), loaded.getDeck().getDeck());
+        assertEquals(unoFlipModel.getDeck().getDiscard(), loaded.getDeck().getDiscard());
+        assertEquals(unoFlipModel.getDeck().getInPlay(), loaded.getDeck().getInPlay());
+        assertEquals(unoFlipModel.getNumPlayers(), loaded.getPlayers().size());
+        for (int i = 0; i < unoFlipModel.getNumPlayers(); i++) {
+            Player expected = unoFlipModel.getPlayers().get(i);
+            Player actual = loaded.getPlayers().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected instanceof AI, actual instanceof AI);
+            if (expected instanceof AI) {
+                // a loaded bot keeps its name and strategy
+                assertEquals(((AI) expected).getStrategy().getClass(), ((AI) actual).getStrategy().getClass());
+            }
+            assertEquals(expected.getHand().getCards(), actual.getHand().getCards());
+        }
+    }
+
+    @Test
+    public void testSaveLoadGame() {
+        unoFlipModel.saveGame(UnoFlipModel.SaveFormat.BINARY);
+        Card topCard = unoFlipModel.getTopCard();
+        int handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        boolean cardSide = unoFlipModel.getCardSide();
+
+        unoFlipModel.restartGame();
+        unoFlipModel.loadGame(UnoFlipModel.SaveFormat.BINARY);
+        assertEquals(topCard, unoFlipModel.getTopCard());
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+        assertEquals(cardSide, unoFlipModel.getCardSide());
+    }
+
+    @Test(expected = IOException.class)
+    public void testDecodeInvalid() throws IOException {
+        ModelBinaryCodec.decode(ByteBuffer.wrap("<UnoFlipModel>".getBytes()));
+    }
+
+    @Test
+    public void testDecodeInvalidStringLength() throws IOException {
+        ByteBuffer encoded = ModelBinaryCodec.encode(unoFlipModel.takeSnapshot());
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        // the status is written as its length followed by its UTF-8 bytes
+        int status = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(UnoFlipModel.STATUS_DONE);
+        assertTrue(status >= 2);
+
+        for (short length : new short[]{-2, Short.MIN_VALUE, Short.MAX_VALUE}) {
+            ByteBuffer corrupt = ByteBuffer.wrap(bytes.clone());
+            corrupt.putShort(status - 2, length);
+            IOException e = assertThrows(IOException.class, () -> ModelBinaryCodec.decode(corrupt));
+            assertTrue(e.getMessage().contains("corrupt"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class ModelGameParserTest {
+    private UnoFlipModel unoFlipModel;
+    private ModelGameParser parser;
+
+    @Before
+    public void setUp() {
+        unoFlipModel = new UnoFlipModel();
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Bobby"));
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer());
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer(new GreedyAIStrategy()));
+        unoFlipModel.setNumPlayers(3);
+        unoFlipModel.setUpInitialTopCard();
+        unoFlipModel.drawNCards(2, unoFlipModel.getCurrentTurn());
+        unoFlipModel.flipCardSide();
+        unoFlipModel.setStatus(UnoFlipEvent.Status.DONE, UnoFlipModel.STATUS_DONE);
+        parser = new ModelGameParser();
+    }
+
+    private void assertSameGame(ModelSnapshot snapshot) {
+        assertEquals(unoFlipModel.getTopCard(), snapshot.getTopCard());
+        assertEquals(unoFlipModel.getCardSide(), snapshot.getCardSide());
+        assertEquals(unoFlipModel.getCurrentTurn(), snapshot.getCurrentTurn());
+        assertEquals(unoFlipModel.getNumPlayers(), snapshot.getNumPlayers());
+        assertEquals(unoFlipModel.getStatus(), snapshot.getStatus());
+        assertEquals(UnoFlipEvent.Status.DONE, snapshot.getStatusType());
+        Deck deck = snapshot.copyDeck();
+        assertEquals(unoFlipModel.getDeck().getDeck(), deck.getDeck());
+        assertEquals(unoFlipModel.getDeck().getDiscard(), deck.getDiscard());
+        assertEquals(unoFlipModel.getDeck().getInPlay(), deck.getInPlay());
+        for (int i = 0; i < unoFlipModel.getNumPlayers(); i++) {
+            Player expected = unoFlipModel.getPlayers().get(i);
+            Player actual = snapshot.copyPlayers().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected instanceof AI, actual instanceof AI);
+            if (expected instanceof AI) {
+                // a loaded bot keeps its name and strategy
+                assertEquals(((AI) expected).getStrategy().getClass(), ((AI) actual).getStrategy().getClass());
+            }
+            assertEquals(expected.getHand().getCards(), actual.getHand().getCards());
+        }
+    }
+
+    @Test
+    public void testReadGameFile() throws IOException {
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL);
+        assertSameGame(parser.readXMLGameFile(UnoFlipModel.CURRENT_STATE_MODEL));
+        assertSameGame(parser.readXMLGameFile(UnoFlipModel.CURRENT_STATE_MODEL));   // the parser can be reused
+    }
+
+    @Test
+    public void testReadModelFiles() throws IOException {
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DATA, UnoFlipModel.XML_MODEL_DATA_FLAG);
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DECK, UnoFlipModel.XML_MODEL_DECK_FLAG);
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_PLAYERS, UnoFlipModel.XML_MODEL_PLAYERS_FLAG);
+        assertSameGame(parser.readXMLModelFiles(UnoFlipModel.CURRENT_STATE_MODEL_DATA,
+                UnoFlipModel.CURRENT_STATE_MODEL_PLAYERS, UnoFlipModel.CURRENT_STATE_MODEL_DECK));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadMissingFile() throws IOException {
+        parser.readXMLGameFile("NoSuchGame.xml");
+    }
+}
@@ -0,0 +1,95 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MonteCarloAIStrategyTest {
+
+    private UnoFlipModel newGame(AIStrategy strategy) {
+        UnoFlipModel model = new UnoFlipModel(5);
+        model.addPlayer(model.createAIPlayer(strategy));
+        model.addPlayer(model.createAIPlayer());
+        model.addPlayer(model.createAIPlayer());
+        model.setNumPlayers(3);
+        model.setUpInitialTopCard();
+        return model;
+    }
+
+    @Test
+    public void testChooseCardLeavesGameUnchanged() {
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(50, 60, 2);
+        UnoFlipModel model = newGame(strategy);
+        model.setCurrentTurn(0);
+        Hand hand = model.getCurrentPlayer().getHand();
+        String handBefore = hand.toString();
+        int deckSize = model.getDeck().size();
+
+        int index = strategy.chooseCard(model);
+        assertEquals(handBefore, hand.toString());
+        assertEquals(deckSize, model.getDeck().size());
+        if (index == AIStrategy.DRAW) {
+            assertFalse(hand.hasMatch(model.getCurrentRank(), model.getCurrentColour(), model.getCardSide()));
+        } else {
+            Card card = hand.getCards().get(index);
+            assertTrue(card.isWild() || card.getRank(model.getCardSide()) == model.getCurrentRank()
+                    || card.getColour(model.getCardSide()) == model.getCurrentColour());
+        }
+    }
+
+    @Test
+    public void testOnlyPlayableCard() {
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(1000, 1000, 1);
+        UnoFlipModel model = new UnoFlipModel(5);
+        model.addPlayer(model.createAIPlayer(strategy));
+        model.addPlayer(model.createAIPlayer());
+        model.setNumPlayers(2);
+        model.getCurrentPlayer().emptyHand();
+        model.getCurrentPlayer().addCardToHand(
+                Card.valueOf(Card.Rank.ONE, Card.Colour.RED, Card.Rank.ONE, Card.Colour.ORANGE));
+        model.getCurrentPlayer().addCardToHand(
+                Card.valueOf(Card.Rank.TWO, Card.Colour.BLUE, Card.Rank.TWO, Card.Colour.PINK));
+        model.setCurrentColour(Card.Colour.BLUE);
+        model.setCurrentRank(Card.Rank.NINE);
+
+        // no search is needed when a single card, or no card, can be played
+        assertEquals(1, strategy.chooseCard(model));
+        model.setCurrentColour(Card.Colour.GREEN);
+        assertEquals(AIStrategy.DRAW, strategy.chooseCard(model));
+    }
+
+    @Test
+    public void testPlayoutsFindTheWayOut() {
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(60_000, 100, 1, 42);
+        UnoFlipModel model = new UnoFlipModel(7);
+        model.addPlayer(model.createAIPlayer(strategy));
+        model.addPlayer(model.createAIPlayer(new GreedyAIStrategy()));
+        model.setNumPlayers(2);
+        model.setUpInitialTopCard();
+        model.getCurrentPlayer().emptyHand();
+        model.getCurrentPlayer().addCardToHand(
+                Card.valueOf(Card.Rank.FLIP, Card.Colour.RED, Card.Rank.FLIP, Card.Colour.ORANGE));
+        model.getCurrentPlayer().addCardToHand(
+                Card.valueOf(Card.Rank.DRAW_ONE, Card.Colour.RED, Card.Rank.DRAW_FIVE, Card.Colour.ORANGE));
+        model.setCurrentColour(Card.Colour.RED);
+        model.setCurrentRank(Card.Rank.FIVE);
+
+        // the flip is worth the most points, but the draw one skips the other player and the flip then goes out
+        assertEquals(0, new GreedyAIStrategy().chooseCard(model));
+        assertEquals(1, strategy.chooseCard(model));
+        assertEquals(1, strategy.chooseCard(model));    // the same seed picks the same card every time
+    }
+
+    @Test
+    public void testPlayGame() {
+        AIStrategy[] strategies = {new MonteCarloAIStrategy(5, 20, 2), new GreedyAIStrategy()};
+        UnoFlipSimulation simulation = new UnoFlipSimulation(strategies, 3);
+        simulation.run(2);
+        assertEquals(2, simulation.getGamesPlayed());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloAIStrategy(0, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloAIStrategy(10, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloAIStrategy(10, 10, 0));
+    }
+}
@@ -125,7 +125,7 @@ public class PlayerTest {
             p1.playCard(0, deck);
         }
 
-        Assert.assertFalse(p1.colourInHand(Card.Colour.RED));
+        Assert.assertFalse(p1.colourInHand(Card.Colour.RED, Card.LIGHT));
     }
 
     @Test
@@ -143,18 +143,18 @@ public class PlayerTest {
     @Test
     public void testGetHandScore(){
         //Initially Player has 7 cards, score should not be 0
-        assertNotEquals(0,p1.getHandScore());
+        assertNotEquals(0,p1.getHandScore(Card.LIGHT));
 
         // Play all cards, there should not be nay cards left in the player's hand
         for(int i=0; i<7; i++){
             p1.playCard(0, deck);
         }
         //Once playing all cards, score should be zero
-        Assert.assertEquals(0, p1.getHandScore());
+        Assert.assertEquals(0, p1.getHandScore(Card.LIGHT));
 
         //Add card to hand
         p1.addCardToHand(1, deck);
-        assertNotEquals(0,p1.getHandScore());
+        assertNotEquals(0,p1.getHandScore(Card.LIGHT));
     }
 
 
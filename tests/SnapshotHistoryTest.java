@@ -0,0 +1,55 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SnapshotHistoryTest {
+    private SnapshotHistory history;
+    private UnoFlipModel unoFlipModel;
+
+    @Before
+    public void setUp() {
+        history = new SnapshotHistory(2);
+        unoFlipModel = new UnoFlipModel();
+    }
+
+    @Test
+    public void testPushPop() {
+        ModelSnapshot first = unoFlipModel.takeSnapshot();
+        ModelSnapshot second = unoFlipModel.takeSnapshot();
+        assertTrue(history.isEmpty());
+        history.push(first);
+        history.push(second);
+        assertEquals(2, history.size());
+        assertSame(second, history.pop());  // most recent first
+        assertSame(first, history.pop());
+        assertTrue(history.isEmpty());
+    }
+
+    @Test
+    public void testPushWhenFull() {
+        ModelSnapshot first = unoFlipModel.takeSnapshot();
+        ModelSnapshot second = unoFlipModel.takeSnapshot();
+        ModelSnapshot third = unoFlipModel.takeSnapshot();
+        history.push(first);
+        history.push(second);
+        history.push(third);    // capacity is 2, first should be dropped
+        assertEquals(2, history.size());
+        assertSame(third, history.pop());
+        assertSame(second, history.pop());
+        assertTrue(history.isEmpty());
+    }
+
+    @Test
+    public void testPopEmpty() {
+        assertThrows(IllegalStateException.class, () -> history.pop());
+        history.push(unoFlipModel.takeSnapshot());
+        history.clear();
+        assertThrows(IllegalStateException.class, () -> history.pop());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotHistory(0));
+    }
+}
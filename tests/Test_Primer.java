@@ -6,19 +6,27 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 
 @Suite.SuiteClasses({
+        AITest.class,
         CardTest.class,
         DeckTest.class,
         DrawFiveTest.class,
         DrawOneTest.class,
         FlipTest.class,
         HandTest.class,
+        ModelBinaryCodecTest.class,
+        ModelGameParserTest.class,
+        MonteCarloAIStrategyTest.class,
         NumberTest.class,
         PlayerTest.class,
         ReverseTest.class,
         SelfDrawOneTest.class,
         SkipEveryoneTest.class,
         SkipTest.class,
+        SnapshotHistoryTest.class,
+        UnoFlipEventDispatcherTest.class,
         UnoFlipModelTest.class,
+        UnoFlipSimulationTest.class,
+        UnoFlipTournamentTest.class,
         WildDrawTwoTest.class,
         WilDrawColourTest.class,
         WildTest.class
@@ -0,0 +1,128 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UnoFlipEventDispatcherTest {
+    private UnoFlipModel model;
+    private ArrayList<Runnable> tasks;          // deliveries handed to the executor, run by the test
+    private ArrayList<UnoFlipEvent> received;
+    private UnoFlipEventDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        model = new UnoFlipModel(5);
+        tasks = new ArrayList<>();
+        received = new ArrayList<>();
+        dispatcher = new UnoFlipEventDispatcher(received::add, tasks::add);
+    }
+
+    private UnoFlipEvent event(UnoFlipEvent.Status status) {
+        return new UnoFlipEvent(model, status, status.toString(), "Bobby", Card.valueOf(Card.Rank.ONE,
+                Card.Colour.RED, Card.Rank.TWO, Card.Colour.PINK), List.of(), Card.LIGHT, false, false,
+                Card.Colour.RED, new int[0], new int[0], 0, new ArrayList<>());
+    }
+
+    private void runTasks() {
+        ArrayList<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testBurstIsCoalesced() {
+        UnoFlipEvent last = event(UnoFlipEvent.Status.TURN_FINISHED);
+        dispatcher.handleUnoFlipStatusUpdate(event(UnoFlipEvent.Status.STANDARD));
+        dispatcher.handleUnoFlipStatusUpdate(event(UnoFlipEvent.Status.AI_PLAYED_CARD));
+        dispatcher.handleUnoFlipStatusUpdate(last);
+        assertEquals(1, tasks.size());
+        assertTrue(received.isEmpty());
+
+        runTasks();
+        assertEquals(1, received.size());
+        assertEquals(last.getStatus(), received.get(0).getStatus());
+
+        // a later event schedules a new delivery
+        dispatcher.handleUnoFlipStatusUpdate(event(UnoFlipEvent.Status.STANDARD));
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    public void testWinnerIsNotDropped() {
+        UnoFlipEvent winner = event(UnoFlipEvent.Status.WINNER);
+        UnoFlipEvent last = event(UnoFlipEvent.Status.STANDARD);
+        dispatcher.handleUnoFlipStatusUpdate(event(UnoFlipEvent.Status.AI_PLAYED_CARD));
+        dispatcher.handleUnoFlipStatusUpdate(winner);
+        dispatcher.handleUnoFlipStatusUpdate(last);
+        runTasks();
+        assertEquals(2, received.size());
+        assertEquals(winner.getStatus(), received.get(0).getStatus());
+        assertSame(last, received.get(1));
+    }
+
+    @Test
+    public void testModelViews() {
+        ArrayList<UnoFlipEvent> direct = new ArrayList<>();
+        UnoFlipView directView = direct::add;
+        UnoFlipView queuedView = received::add;
+        model.addUnoFlipView(directView);
+        model.addUnoFlipView(queuedView, tasks::add);
+        model.addPlayer(new Player("Bobby"));
+        model.addPlayer(new Player("Mark"));
+        model.setNumPlayers(2);
+        model.setUpInitialTopCard();
+        runTasks();
+        direct.clear();
+        received.clear();
+
+        // the direct view is called by the model, the other one when its executor runs
+        model.setCurrentColour(model.getCurrentColour());
+        model.setCurrentColour(model.getCurrentColour());
+        assertEquals(2, direct.size());
+        assertTrue(received.isEmpty());
+        runTasks();
+        assertEquals(1, received.size());
+        assertEquals(direct.get(1).getStatus(), received.get(0).getStatus());
+        assertEquals(direct.get(1).getMessage(), received.get(0).getMessage());
+
+        model.removeUnoFlipView(queuedView);
+        model.setCurrentColour(model.getCurrentColour());
+        assertEquals(3, direct.size());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void testCoalescedHandSizeChanges() {
+        ArrayList<UnoFlipEvent> direct = new ArrayList<>();
+        model.addUnoFlipView(direct::add);
+        model.addUnoFlipView(received::add, tasks::add);
+        model.addPlayer(new Player("Bobby"));
+        model.addPlayer(new Player("Mark"));
+        model.setNumPlayers(2);
+        model.setUpInitialTopCard();
+        runTasks();
+        received.clear();
+
+        model.drawNCards(2, 0);
+        model.setCurrentColour(model.getCurrentColour());
+        model.drawNCards(3, 1);
+        model.setCurrentColour(model.getCurrentColour());
+        runTasks();
+
+        // the view only gets the last event, with the changes of both
+        assertEquals(1, received.size());
+        assertEquals(2, received.get(0).getHandSizeChange(0));
+        assertEquals(3, received.get(0).getHandSizeChange(1));
+
+        // the events sent to the other view are not changed
+        assertEquals(2, direct.get(direct.size() - 2).getHandSizeChange(0));
+        assertEquals(0, direct.get(direct.size() - 2).getHandSizeChange(1));
+        assertEquals(0, direct.get(direct.size() - 1).getHandSizeChange(0));
+        assertEquals(3, direct.get(direct.size() - 1).getHandSizeChange(1));
+    }
+}
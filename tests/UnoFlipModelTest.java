@@ -30,7 +30,7 @@ public class UnoFlipModelTest {
         unoFlipModel.setNumPlayers(2);
         assertEquals(2,unoFlipModel.getNumPlayers());
         unoFlipModel.setUpInitialTopCard();
-        assertFalse(unoFlipModel.getTopCard().getRank().ordinal()==13);
+        assertFalse(unoFlipModel.getTopCard().getRank(unoFlipModel.getCardSide()).ordinal()==13);
     }
     @Test
     public void testPlayTurnSelfDrawOne(){
@@ -78,8 +78,8 @@ public class UnoFlipModelTest {
     @Test
     public void testSetTopCard(){
         unoFlipModel.setTopCard(new Card(Card.Rank.FIVE, Card.Colour.RED, Card.Rank.FIVE, Card.Colour.ORANGE));
-        assertTrue(unoFlipModel.getTopCard().getRank()== Card.Rank.FIVE);
-        assertTrue(unoFlipModel.getTopCard().getColour()== Card.Colour.RED);
+        assertTrue(unoFlipModel.getTopCard().getRank(unoFlipModel.getCardSide())== Card.Rank.FIVE);
+        assertTrue(unoFlipModel.getTopCard().getColour(unoFlipModel.getCardSide())== Card.Colour.RED);
     }
     @Test
     public void testGetCurrentPlayer(){
@@ -138,6 +138,84 @@ public class UnoFlipModelTest {
         unoFlipModel.drawNCards(2, unoFlipModel.getCurrentTurn());
         assertTrue(unoFlipModel.getCurrentPlayer().getHandSize()==9);
     }
+    @Test
+    public void testCardSidePerGame(){
+        UnoFlipModel otherGame = new UnoFlipModel();
+        assertEquals(Card.LIGHT, unoFlipModel.getCardSide());
+        unoFlipModel.flipCardSide();
+        assertEquals(Card.DARK, unoFlipModel.getCardSide());
+        assertEquals(Card.LIGHT, otherGame.getCardSide());  // flipping one game must not flip another
+    }
+
+    @Test
+    public void testTurnSeqsBoundToOwnGame(){
+        UnoFlipModel otherGame = new UnoFlipModel();
+        Card card = new Card(Card.Rank.FIVE, Card.Colour.RED, Card.Rank.FIVE, Card.Colour.ORANGE);
+        unoFlipModel.getTurnSeqs().get(Card.Rank.FIVE.ordinal()).executeSequence(card);
+        assertEquals(card, unoFlipModel.getTopCard());
+        assertNull(otherGame.getTopCard());    // creating another game must not rebind this game's sequences
+    }
+
+    @Test
+    public void testUndoRedoTurn(){
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Bobby"));
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Mark"));
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.setUpInitialTopCard();
+        assertFalse(unoFlipModel.canUndo());
+
+        unoFlipModel.savePrev();
+        int deckSize = unoFlipModel.getDeck().size();
+        int handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        Card topCard = unoFlipModel.getTopCard();
+
+        unoFlipModel.drawNCards(3, unoFlipModel.getCurrentTurn());
+        unoFlipModel.setTurnFinished(true);
+        assertTrue(unoFlipModel.canUndo());
+
+        unoFlipModel.undoTurn();
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+        assertEquals(deckSize, unoFlipModel.getDeck().size());
+        assertEquals(topCard, unoFlipModel.getTopCard());
+        assertFalse(unoFlipModel.getTurnFinished());
+        assertFalse(unoFlipModel.canUndo());
+        assertTrue(unoFlipModel.canRedo());
+
+        unoFlipModel.redoTurn();
+        assertEquals(handSize + 3, unoFlipModel.getCurrentPlayer().getHandSize());
+        assertEquals(deckSize - 3, unoFlipModel.getDeck().size());
+        assertTrue(unoFlipModel.getTurnFinished());
+        assertFalse(unoFlipModel.canRedo());
+    }
+
+    @Test
+    public void testUndoAfterRestartAndLoad(){
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Bobby"));
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Mark"));
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.setUpInitialTopCard();
+        unoFlipModel.saveGame(UnoFlipModel.SaveFormat.BINARY);
+
+        // the first turn of a new round goes back to the start of the round
+        unoFlipModel.restartGame();
+        assertTrue(unoFlipModel.canUndo());
+        int handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        unoFlipModel.drawNCards(1, unoFlipModel.getCurrentTurn());
+        unoFlipModel.setTurnFinished(true);
+        unoFlipModel.undoTurn();
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+        assertFalse(unoFlipModel.getTurnFinished());
+
+        // the first turn after loading goes back to the loaded game
+        unoFlipModel.loadGame(UnoFlipModel.SaveFormat.BINARY);
+        assertTrue(unoFlipModel.canUndo());
+        assertFalse(unoFlipModel.canRedo());
+        handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        unoFlipModel.drawNCards(1, unoFlipModel.getCurrentTurn());
+        unoFlipModel.undoTurn();
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+    }
+
     @After
     public void teardown(){
         unoFlipModel=null;
@@ -153,4 +231,218 @@ public class UnoFlipModelTest {
         unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DECK, UnoFlipModel.XML_MODEL_DECK_FLAG);
         unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_PLAYERS, UnoFlipModel.XML_MODEL_PLAYERS_FLAG);
     }
+
+    @Test
+    public void testSaveLoadGame(){
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Bobby"));
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer());
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.setUpInitialTopCard();
+        unoFlipModel.drawNCards(2, unoFlipModel.getCurrentTurn());
+        unoFlipModel.saveGame();
+        String[] leftovers = new java.io.File(".").list((dir, name) ->
+                name.startsWith(UnoFlipModel.CURRENT_STATE_MODEL) && name.endsWith(".tmp"));
+        assertEquals(0, leftovers.length);  // the temporary file was renamed over the save
+
+        Card topCard = unoFlipModel.getTopCard();
+        int handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        int deckSize = unoFlipModel.getDeck().size();
+        unoFlipModel.restartGame();
+        unoFlipModel.loadGame();
+
+        assertEquals(topCard, unoFlipModel.getTopCard());
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+        assertEquals(deckSize, unoFlipModel.getDeck().size());
+        assertEquals("Bobby", unoFlipModel.getPlayers().get(0).getName());
+        assertTrue(unoFlipModel.getPlayers().get(1) instanceof AI);
+    }
+
+    @Test
+    public void testLoadThreeFileGame(){
+        unoFlipModel.addPlayer(unoFlipModel.createPlayer("Bobby"));
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer());
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.setUpInitialTopCard();
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DATA, UnoFlipModel.XML_MODEL_DATA_FLAG);
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_DECK, UnoFlipModel.XML_MODEL_DECK_FLAG);
+        unoFlipModel.exportToXMLFile(UnoFlipModel.CURRENT_STATE_MODEL_PLAYERS, UnoFlipModel.XML_MODEL_PLAYERS_FLAG);
+        new java.io.File(UnoFlipModel.CURRENT_STATE_MODEL).delete();
+
+        // a game saved by older versions is loaded from its three files
+        Card topCard = unoFlipModel.getTopCard();
+        int handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        unoFlipModel.restartGame();
+        unoFlipModel.loadGame();
+        assertEquals(topCard, unoFlipModel.getTopCard());
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+
+        // without any saved game, the load fails and the game is unchanged
+        new java.io.File(UnoFlipModel.CURRENT_STATE_MODEL_DATA).delete();
+        assertThrows(java.io.UncheckedIOException.class, () -> unoFlipModel.loadGame());
+        assertEquals(topCard, unoFlipModel.getTopCard());
+    }
+
+    @Test
+    public void testFork(){
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer());
+        unoFlipModel.addPlayer(unoFlipModel.createAIPlayer());
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.setUpInitialTopCard();
+
+        UnoFlipModel fork = unoFlipModel.fork(new java.util.SplittableRandom(3));
+        assertEquals(unoFlipModel.getTopCard(), fork.getTopCard());
+        assertEquals(unoFlipModel.getCurrentTurn(), fork.getCurrentTurn());
+        assertEquals(unoFlipModel.getCardSide(), fork.getCardSide());
+        assertEquals(unoFlipModel.getDeck().getDeck(), fork.getDeck().getDeck());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(unoFlipModel.getPlayers().get(i).getName(), fork.getPlayers().get(i).getName());
+            assertEquals(unoFlipModel.getPlayers().get(i).getHand().getCards(), fork.getPlayers().get(i).getHand().getCards());
+            assertNotSame(unoFlipModel.getPlayers().get(i), fork.getPlayers().get(i));
+        }
+
+        // playing the fork to the end leaves the original game unchanged
+        int handSize = unoFlipModel.getCurrentPlayer().getHandSize();
+        int deckSize = unoFlipModel.getDeck().size();
+        Card topCard = unoFlipModel.getTopCard();
+        UnoFlipSimulation.playToCompletion(fork);
+        assertTrue(fork.isWinner() || fork.getDeck().size() == 0);
+        assertEquals(handSize, unoFlipModel.getCurrentPlayer().getHandSize());
+        assertEquals(deckSize, unoFlipModel.getDeck().size());
+        assertEquals(topCard, unoFlipModel.getTopCard());
+        assertFalse(unoFlipModel.isWinner());
+    }
+
+    @Test
+    public void testEvents(){
+        unoFlipModel = new UnoFlipModel(5);
+        java.util.ArrayList<UnoFlipEvent> events = new java.util.ArrayList<>();
+        unoFlipModel.addUnoFlipView(events::add);
+        unoFlipModel.addPlayer(new Player("Bobby"));
+        unoFlipModel.addPlayer(new Player("Mark"));
+        unoFlipModel.setNumPlayers(2);
+        unoFlipModel.getPlayers().get(0).addCardToHand(UnoFlipModel.NUM_STARTING_CARDS, unoFlipModel.getDeck());
+        unoFlipModel.setUpInitialTopCard();
+
+        // the first event reports the dealt cards themselves
+        UnoFlipEvent event = events.get(events.size() - 1);
+        assertSame(unoFlipModel, event.getSource());
+        assertEquals(UnoFlipEvent.Status.STANDARD, event.getStatus());
+        assertEquals(unoFlipModel.getTopCard(), event.getTopCard());
+        assertEquals(unoFlipModel.getCurrentPlayer().getHand().getCards(), event.getCurrHand());
+        assertEquals(unoFlipModel.getCardSide(), event.getCardSide());
+        assertEquals(2, event.getNumPlayers());
+        assertEquals(UnoFlipModel.NUM_STARTING_CARDS, event.getHandSize(0));
+        assertEquals(UnoFlipModel.NUM_STARTING_CARDS, event.getHandSizeChange(0));
+        assertEquals(0, event.getHandSize(1));
+
+        // cards drawn between two events are reported as changes, the previous event keeps its copy of the hand
+        unoFlipModel.drawNCards(2, 1);
+        unoFlipModel.drawNCards(1, 0);
+        unoFlipModel.setCurrentColour(unoFlipModel.getCurrentColour());
+        UnoFlipEvent next = events.get(events.size() - 1);
+        assertEquals(UnoFlipModel.NUM_STARTING_CARDS + 1, next.getHandSize(0));
+        assertEquals(1, next.getHandSizeChange(0));
+        assertEquals(2, next.getHandSizeChange(1));
+        assertEquals(UnoFlipModel.NUM_STARTING_CARDS + 1, next.getCurrHand().size());
+        assertEquals(UnoFlipModel.NUM_STARTING_CARDS, event.getCurrHand().size());
+    }
+
+    /**
+     * Sets up a game of a human and two bots holding the given cards, on a red one. The human plays a red two and
+     * ends their turn, so it is the first bot's turn.
+     * @return the events sent since the human's turn ended
+     */
+    private java.util.ArrayList<UnoFlipEvent> setUpBotsTurn(Player human, Card[] firstBot, Card[] secondBot){
+        unoFlipModel = new UnoFlipModel(7);
+        java.util.ArrayList<UnoFlipEvent> events = new java.util.ArrayList<>();
+        unoFlipModel.addUnoFlipView(events::add);
+        AI first = new AI("Bot 1");
+        AI second = new AI("Bot 2");
+        unoFlipModel.addPlayer(human);
+        unoFlipModel.addPlayer(first);
+        unoFlipModel.addPlayer(second);
+        unoFlipModel.setNumPlayers(3);
+        human.addCardToHand(card(Card.Rank.TWO, Card.Colour.RED));
+        human.addCardToHand(card(Card.Rank.NINE, Card.Colour.BLUE));
+        for (Card c : firstBot) {
+            first.addCardToHand(c);
+        }
+        for (Card c : secondBot) {
+            second.addCardToHand(c);
+        }
+        // the players hold the only cards of the game besides the top card
+        java.util.ArrayList<Card> inPlay = new java.util.ArrayList<>();
+        for (Player p : unoFlipModel.getPlayers()) {
+            inPlay.addAll(p.getHand().getCards());
+        }
+        unoFlipModel.getDeck().setDeck(java.util.List.of());
+        unoFlipModel.getDeck().setDiscard(java.util.List.of(card(Card.Rank.ONE, Card.Colour.RED)));
+        unoFlipModel.getDeck().setInPlay(inPlay);
+        unoFlipModel.setTopCard(card(Card.Rank.ONE, Card.Colour.RED));
+        unoFlipModel.setCurrentRank(Card.Rank.ONE);
+        unoFlipModel.setCurrentColour(Card.Colour.RED);
+
+        unoFlipModel.playTurn(0);
+        unoFlipModel.nextTurn();
+        assertSame(first, unoFlipModel.getCurrentPlayer());
+        events.clear();
+        return events;
+    }
+
+    private static Card card(Card.Rank rank, Card.Colour colour){
+        return Card.valueOf(rank, colour, Card.Rank.ONE, Card.Colour.PINK);
+    }
+
+    @Test
+    public void testFastForwardAITurns(){
+        Player human = new Player("Bobby");
+        java.util.ArrayList<UnoFlipEvent> events = setUpBotsTurn(human,
+                new Card[] {card(Card.Rank.THREE, Card.Colour.RED), card(Card.Rank.FIVE, Card.Colour.BLUE)},
+                new Card[] {card(Card.Rank.FOUR, Card.Colour.RED), card(Card.Rank.SIX, Card.Colour.GREEN)});
+
+        // each bot plays its red card, then it is the human's turn
+        assertEquals(2, unoFlipModel.fastForwardAITurns());
+        assertFalse(unoFlipModel.isChallengePending());
+        assertSame(human, unoFlipModel.getCurrentPlayer());
+        assertFalse(unoFlipModel.getTurnFinished());
+        assertEquals(card(Card.Rank.FOUR, Card.Colour.RED), unoFlipModel.getTopCard());
+
+        // the views get one event for the whole run
+        assertEquals(1, events.size());
+        UnoFlipEvent event = events.get(0);
+        assertEquals(UnoFlipEvent.Status.FAST_FORWARDED, event.getStatus());
+        assertEquals(UnoFlipModel.AI_FAST_FORWARDED + 2, event.getMessage());
+        assertEquals(2, event.getTurnsPlayed());
+        assertFalse(event.getIsAI());
+        assertEquals(0, event.getHandSizeChange(0));
+        assertEquals(-1, event.getHandSizeChange(1));
+        assertEquals(-1, event.getHandSizeChange(2));
+
+        // nothing to fast-forward on a human's turn, and no event
+        assertEquals(0, unoFlipModel.fastForwardAITurns());
+        assertSame(human, unoFlipModel.getCurrentPlayer());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void testFastForwardAITurnsToChallenge(){
+        Player human = new Player("Bobby");
+        java.util.ArrayList<UnoFlipEvent> events = setUpBotsTurn(human,
+                new Card[] {card(Card.Rank.THREE, Card.Colour.RED), card(Card.Rank.FIVE, Card.Colour.BLUE)},
+                new Card[] {Card.valueOf(Card.Rank.WILD_DRAW_2, Card.Colour.WILD, Card.Rank.WILD_DRAW_COLOUR,
+                        Card.Colour.WILD_DARK), card(Card.Rank.SIX, Card.Colour.GREEN)});
+
+        // the second bot plays the wild draw 2, the human decides whether to challenge it
+        assertEquals(2, unoFlipModel.fastForwardAITurns());
+        assertTrue(unoFlipModel.isChallengePending());
+        assertSame(unoFlipModel.getPlayers().get(2), unoFlipModel.getCurrentPlayer());
+        assertEquals(Card.Rank.WILD_DRAW_2, unoFlipModel.getTopCard().getRank(Card.LIGHT));
+        assertEquals(1, human.getHandSize());   // the penalty is not taken yet
+
+        assertEquals(1, events.size());
+        UnoFlipEvent event = events.get(0);
+        assertEquals(UnoFlipEvent.Status.FAST_FORWARDED, event.getStatus());
+        assertEquals(UnoFlipModel.AI_FAST_FORWARDED + 2, event.getMessage());
+        assertEquals(Card.Colour.GREEN, event.getCurrColour());    // the colour the bot picked
+    }
 }
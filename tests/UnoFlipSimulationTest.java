@@ -0,0 +1,69 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class UnoFlipSimulationTest {
+
+    @Test
+    public void testNewGame() {
+        UnoFlipSimulation simulation = new UnoFlipSimulation(4);
+        UnoFlipModel model = simulation.newGame();
+        assertEquals(4, model.getNumPlayers());
+        assertNotNull(model.getTopCard());
+        for (Player p : model.getPlayers()) {
+            assertTrue(p instanceof AI);
+            assertTrue(p.getHandSize() >= UnoFlipModel.NUM_STARTING_CARDS);  // the first top card may make a player draw
+        }
+    }
+
+    @Test
+    public void testPlayGame() {
+        UnoFlipSimulation simulation = new UnoFlipSimulation(2);
+        UnoFlipModel model = simulation.playGame();
+        assertEquals(1, simulation.getGamesPlayed());
+        assertTrue(simulation.getTurnsPlayed() > 0);
+        if (model.isWinner()) {
+            assertEquals(0, model.getCurrentPlayer().getHandSize());   // the winner played all their cards
+            assertEquals(0, simulation.getGamesUnfinished());
+        }
+    }
+
+    @Test
+    public void testRun() {
+        UnoFlipSimulation simulation = new UnoFlipSimulation(12);
+        simulation.run(20);
+        assertEquals(20, simulation.getGamesPlayed());
+        assertTrue(simulation.getGamesPerSecond() > 0);
+        assertTrue(simulation.getTurnsPerSecond() > 0);
+    }
+
+    @Test
+    public void testSeed() {
+        // simulations with the same seed play the same games
+        UnoFlipSimulation simulation1 = new UnoFlipSimulation(3, 42);
+        UnoFlipSimulation simulation2 = new UnoFlipSimulation(3, 42);
+        for (int i = 0; i < 5; i++) {
+            UnoFlipModel model1 = simulation1.playGame();
+            UnoFlipModel model2 = simulation2.playGame();
+            assertEquals(simulation1.getLastSeed(), simulation2.getLastSeed());
+            assertEquals(simulation1.getTurnsPlayed(), simulation2.getTurnsPlayed());
+            assertEquals(model1.getPlayers().indexOf(model1.getCurrentPlayer()),
+                    model2.getPlayers().indexOf(model2.getCurrentPlayer()));
+            assertEquals(model1.getCurrentPlayer().getPlayerScore(), model2.getCurrentPlayer().getPlayerScore());
+        }
+
+        // a game can be replayed from its seed
+        long seed = simulation1.getLastSeed();
+        UnoFlipSimulation replay = new UnoFlipSimulation(3);
+        UnoFlipModel model1 = replay.newGame(seed);
+        UnoFlipModel model2 = replay.newGame(seed);
+        assertEquals(model1.getTopCard(), model2.getTopCard());
+        assertEquals(model1.getDeck().getDeck(), model2.getDeck().getDeck());
+    }
+
+    @Test
+    public void testInvalidNumPlayers() {
+        assertThrows(IllegalArgumentException.class, () -> new UnoFlipSimulation(1));
+        assertThrows(IllegalArgumentException.class, () -> new UnoFlipSimulation(13));
+    }
+}
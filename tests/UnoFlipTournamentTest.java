@@ -0,0 +1,65 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class UnoFlipTournamentTest {
+
+    @Test
+    public void testRun() throws InterruptedException {
+        UnoFlipTournament tournament = new UnoFlipTournament(3, 1);
+        tournament.run(30);
+        assertEquals(30, tournament.getGamesPlayed());
+
+        long totalWins = 0;
+        for (int seat = 0; seat < 3; seat++) {
+            totalWins += tournament.getWins(seat);
+            assertTrue(tournament.getTotalScore(seat) >= 0);
+        }
+        assertEquals(30 - tournament.getGamesUnfinished(), totalWins);  // every finished game has exactly one winner
+    }
+
+    @Test
+    public void testRunInParallel() throws InterruptedException {
+        UnoFlipTournament tournament = new UnoFlipTournament(4, 4);
+        tournament.run(200);
+        assertEquals(200, tournament.getGamesPlayed());
+
+        long totalWins = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            totalWins += tournament.getWins(seat);
+        }
+        assertEquals(200 - tournament.getGamesUnfinished(), totalWins);
+    }
+
+    @Test
+    public void testSeed() throws InterruptedException {
+        UnoFlipTournament tournament1 = new UnoFlipTournament(4, 2, 7);
+        UnoFlipTournament tournament2 = new UnoFlipTournament(4, 2, 7);
+        tournament1.run(40);
+        tournament2.run(40);
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(tournament1.getWins(seat), tournament2.getWins(seat));
+            assertEquals(tournament1.getTotalScore(seat), tournament2.getTotalScore(seat));
+        }
+    }
+
+    @Test
+    public void testStrategies() throws InterruptedException {
+        AIStrategy[] strategies = {new GreedyAIStrategy(), new DefaultAIStrategy(), new DefaultAIStrategy()};
+        UnoFlipTournament tournament = new UnoFlipTournament(strategies, 2, 11);
+        tournament.run(40);
+        assertEquals(40, tournament.getGamesPlayed());
+
+        long totalWins = 0;
+        for (int seat = 0; seat < 3; seat++) {
+            totalWins += tournament.getWins(seat);
+        }
+        assertEquals(40 - tournament.getGamesUnfinished(), totalWins);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new UnoFlipTournament(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UnoFlipTournament(4, 0));
+    }
+}